@@ -1,6 +1,8 @@
 
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 
 /**
  * Simple Booking model for Mini Ticket System
@@ -12,24 +14,47 @@ public class Booking {
     private String customerEmail;
     private String customerPhone;
     private Event event;
-    private String seatType;
+    private SeatType seatType;
     private int quantity;
     private BigDecimal totalPrice;
-    private String bookingDate;
+    private long bookingTimeMillis;   // Epoch milliseconds, formatted only when displayed
 
-    // Seat type constants
+    // Seat type constants (labels of the SeatType values)
     public static final String SEAT_TYPE_STANDARD = "Standard";
     public static final String SEAT_TYPE_VIP = "VIP";
     public static final String SEAT_TYPE_PREMIUM = "Premium";
 
     // Price multipliers
-    public static final BigDecimal STANDARD_MULTIPLIER = new BigDecimal("1.0");
-    public static final BigDecimal VIP_MULTIPLIER = new BigDecimal("1.5");
-    public static final BigDecimal PREMIUM_MULTIPLIER = new BigDecimal("2.0");
+    public static final BigDecimal STANDARD_MULTIPLIER = SeatType.STANDARD.getMultiplier();
+    public static final BigDecimal VIP_MULTIPLIER = SeatType.VIP.getMultiplier();
+    public static final BigDecimal PREMIUM_MULTIPLIER = SeatType.PREMIUM.getMultiplier();
+
+    // Fixed-point totals are in mills (1/1000 of a dollar): cents times a
+    // multiplier in tenths, which keeps half cents from the 1.5x VIP rate exact
+    public static final int MILLS_SCALE = 3;
+    public static final long NOT_MILLS = -1;   // See toMills
+
+
+    // Longest customer name, email or phone, in UTF-8 bytes, that the
+    // journal, snapshot and archive can store
+    public static final int MAX_FIELD_BYTES = 0xFFFF;
+
+    /**
+     * Check that customer details are short enough to be stored
+     */
+    public static boolean hasStorableFields(String customerName, String customerEmail, String customerPhone) {
+        return fitsField(customerName) && fitsField(customerEmail) && fitsField(customerPhone);
+    }
+
+    private static boolean fitsField(String value) {
+        // A char is at most 3 UTF-8 bytes, so short strings need no encoding
+        return value == null || value.length() * 3 <= MAX_FIELD_BYTES
+                || value.getBytes(StandardCharsets.UTF_8).length <= MAX_FIELD_BYTES;
+    }
 
     // Constructor
     public Booking(int id, String customerName, String customerEmail, String customerPhone,
-                   Event event, String seatType, int quantity, String bookingDate) {
+                   Event event, SeatType seatType, int quantity, long bookingTimeMillis) {
         this.id = id;
         this.customerName = customerName;
         this.customerEmail = customerEmail;
@@ -37,8 +62,34 @@ public class Booking {
         this.event = event;
         this.seatType = seatType;
         this.quantity = quantity;
-        this.bookingDate = bookingDate;
-        this.totalPrice = calculateTotalPrice(event.getBasePrice(), seatType, quantity);
+        this.bookingTimeMillis = bookingTimeMillis;
+        this.totalPrice = calculateTotalPrice(event, seatType, quantity);
+    }
+
+    /**
+     * Create a booking with a total price that was already calculated,
+     * e.g. when rebuilding a stored booking
+     */
+    public Booking(int id, String customerName, String customerEmail, String customerPhone,
+                   Event event, SeatType seatType, int quantity, BigDecimal totalPrice, long bookingTimeMillis) {
+        this.id = id;
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+        this.customerPhone = customerPhone;
+        this.event = event;
+        this.seatType = seatType;
+        this.quantity = quantity;
+        this.bookingTimeMillis = bookingTimeMillis;
+        this.totalPrice = totalPrice;
+    }
+
+    /**
+     * Create a booking from a seat type label, unknown labels are booked as Standard
+     */
+    public Booking(int id, String customerName, String customerEmail, String customerPhone,
+                   Event event, String seatType, int quantity, long bookingTimeMillis) {
+        this(id, customerName, customerEmail, customerPhone, event, seatTypeOrStandard(seatType),
+             quantity, bookingTimeMillis);
     }
 
     // Getters and Setters
@@ -82,11 +133,11 @@ public class Booking {
         this.event = event;
     }
 
-    public String getSeatType() {
+    public SeatType getSeatType() {
         return seatType;
     }
 
-    public void setSeatType(String seatType) {
+    public void setSeatType(SeatType seatType) {
         this.seatType = seatType;
     }
 
@@ -106,32 +157,83 @@ public class Booking {
         this.totalPrice = totalPrice;
     }
 
+    /**
+     * Get the booking time as "yyyy-MM-dd HH:mm:ss", formatted on demand
+     */
     public String getBookingDate() {
-        return bookingDate;
+        return TimestampFormat.format(bookingTimeMillis);
     }
 
     public void setBookingDate(String bookingDate) {
-        this.bookingDate = bookingDate;
+        this.bookingTimeMillis = TimestampFormat.parse(bookingDate);
+    }
+
+    public long getBookingTimeMillis() {
+        return bookingTimeMillis;
+    }
+
+    public void setBookingTimeMillis(long bookingTimeMillis) {
+        this.bookingTimeMillis = bookingTimeMillis;
+    }
+
+    public Instant getBookingTime() {
+        return Instant.ofEpochMilli(bookingTimeMillis);
     }
 
     // Business methods
     public static BigDecimal calculateTotalPrice(BigDecimal basePrice, String seatType, int quantity) {
-        BigDecimal multiplier;
-
-        switch (seatType) {
-            case SEAT_TYPE_VIP:
-                multiplier = VIP_MULTIPLIER;
-                break;
-            case SEAT_TYPE_PREMIUM:
-                multiplier = PREMIUM_MULTIPLIER;
-                break;
-            case SEAT_TYPE_STANDARD:
-            default:
-                multiplier = STANDARD_MULTIPLIER;
-                break;
+        return calculateTotalPrice(basePrice, seatTypeOrStandard(seatType), quantity);
+    }
+
+    public static BigDecimal calculateTotalPrice(BigDecimal basePrice, SeatType seatType, int quantity) {
+        return basePrice.multiply(seatType.getMultiplier()).multiply(new BigDecimal(quantity));
+    }
+
+    /**
+     * Fixed-point version of calculateTotalPrice that allocates nothing.
+     * For a base price with two decimals, BigDecimal.valueOf(result, MILLS_SCALE)
+     * equals calculateTotalPrice exactly, including its scale.
+     * @param basePriceCents base price in cents, see Event.getBasePriceCents()
+     * @return total price in mills
+     */
+    public static long calculateTotalMills(long basePriceCents, SeatType seatType, int quantity) {
+        return Math.multiplyExact(basePriceCents * seatType.getMultiplierTenths(), (long) quantity);
+    }
+
+    /**
+     * Get a total as the mills amount bookings are stored with
+     * @return the total in mills, or NOT_MILLS if it is null, negative, has
+     *         another scale or does not fit a long; such totals are stored
+     *         as they are
+     */
+    public static long toMills(BigDecimal totalPrice) {
+        if (totalPrice == null || totalPrice.signum() < 0 || totalPrice.scale() != MILLS_SCALE
+                || totalPrice.precision() > 18) {
+            return NOT_MILLS;
+        }
+        return totalPrice.unscaledValue().longValue();
+    }
+
+    /**
+     * Calculate the total for an event from its precomputed seat prices,
+     * falling back to BigDecimal when the event price is not fixed-point
+     */
+    public static BigDecimal calculateTotalPrice(Event event, SeatType seatType, int quantity) {
+        long seatPriceMills = event.getSeatPriceMills(seatType);
+        if (seatPriceMills >= 0) {
+            try {
+                return BigDecimal.valueOf(Math.multiplyExact(seatPriceMills, (long) quantity), MILLS_SCALE);
+            } catch (ArithmeticException e) {
+                // Too large for a long - fall through to BigDecimal
+            }
         }
+        return calculateTotalPrice(event.getBasePrice(), seatType, quantity);
+    }
 
-        return basePrice.multiply(multiplier).multiply(new BigDecimal(quantity));
+    // Matches the old pricing switch, which treated unknown seat types as Standard
+    private static SeatType seatTypeOrStandard(String label) {
+        SeatType seatType = SeatType.fromLabel(label);
+        return seatType != null ? seatType : SeatType.STANDARD;
     }
 
     @Override
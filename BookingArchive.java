@@ -0,0 +1,93 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Off-heap booking archive for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Holds blocks of old bookings outside the Java heap, either in a
+ * memory-mapped file or, when there is no data directory, in direct
+ * buffers. BookingRepository decides what goes in and how a block is
+ * laid out; the archive only stores blocks and hands back read-only
+ * views of them.
+ *
+ * The archive file is a cache, not a save file: snapshots and the journal
+ * still hold every booking, so the file is emptied when it is opened and
+ * refilled as restored bookings age out of the heap.
+ */
+public class BookingArchive implements AutoCloseable {
+    private final Path file;            // Null for direct buffers
+    private final FileChannel channel;
+    private long size;                  // Bytes archived so far, guarded by this
+
+    private BookingArchive(Path file, FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+    }
+
+    /**
+     * Archive in direct buffers, for controllers without a data directory
+     */
+    public static BookingArchive inMemory() {
+        return new BookingArchive(null, null);
+    }
+
+    /**
+     * Archive in a memory-mapped file, replacing any earlier archive file
+     */
+    public static BookingArchive open(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return new BookingArchive(file, channel);
+    }
+
+    /**
+     * Copy a block into the archive
+     * @param block bytes from its position to its limit
+     * @return read-only view of the archived copy, positioned at 0
+     */
+    public synchronized ByteBuffer store(ByteBuffer block) throws IOException {
+        int length = block.remaining();
+        if (channel == null) {
+            ByteBuffer copy = ByteBuffer.allocateDirect(length);
+            copy.put(block).flip();
+            size += length;
+            return copy.asReadOnlyBuffer();
+        }
+        long position = size;
+        while (block.hasRemaining()) {
+            channel.write(block, position + length - block.remaining());
+        }
+        size += length;
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+    /** Get number of bytes archived */
+    public synchronized long size() {
+        return size;
+    }
+
+    /** Get the archive file, or null for an in-memory archive */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Close the archive file. Views handed out stay readable until they are
+     * garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
@@ -1,8 +1,20 @@
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
-import java.text.SimpleDateFormat;
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Simple Booking Controller for Mini Ticket System
@@ -10,71 +22,245 @@ import java.util.Date;
  * Handles business logic and data storage in memory
  */
 public class BookingController {
-    private ArrayList<Event> events;
-    private ArrayList<Booking> bookings;
-    private int nextBookingId;
+    private volatile SnapshotList<Event> events;    // Published snapshots, readers share the current version
+    private EventIndex eventIndex; // O(1) lookup by event ID, kept in sync with events
+    private EventSearchIndex searchIndex; // Words of event name, venue and description
+    private EventCalendarIndex calendarIndex; // Events by date, overall and per venue
+    private BookingRepository bookings; // Lock-free column store, hands out unique increasing IDs
+    private BookingArchive archive;     // Off-heap home of older bookings
+    private BookingJournal journal;     // Durable booking log, null when running in memory only
+    private Path snapshotFile;          // Compacted state the journal is replayed on top of
+    private BookingLookupIndex emailIndex;  // Bookings by normalized customer email
+    private BookingLookupIndex phoneIndex;  // Bookings by customer phone digits
+    private SeatHoldManager seatHolds;  // Seats held during checkout, expired on a timing wheel
+    private final List<EventChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    // Bookings hold the read side, checkpoints take the write side to get a quiet moment
+    private final ReentrantReadWriteLock persistenceLock = new ReentrantReadWriteLock();
+    private ScheduledExecutorService checkpointer;
+
+    private static final long CHECKPOINT_INTERVAL_MINUTES = 5;
+    private static final int HOT_BOOKINGS = 65_536;   // Newest bookings kept on the heap
 
     public BookingController() {
-        this.events = new ArrayList<>();
-        this.bookings = new ArrayList<>();
-        this.nextBookingId = 1;
+        this(BookingArchive.inMemory());
+    }
+
+    private BookingController(BookingArchive archive) {
+        this.events = SnapshotList.empty();
+        this.eventIndex = new EventIndex();
+        this.searchIndex = new EventSearchIndex();
+        this.calendarIndex = new EventCalendarIndex();
+        this.archive = archive;
+        this.bookings = new BookingRepository(archive, HOT_BOOKINGS);
+        this.emailIndex = new BookingLookupIndex(BookingLookupIndex.Field.EMAIL);
+        this.phoneIndex = new BookingLookupIndex(BookingLookupIndex.Field.PHONE);
+        this.seatHolds = new SeatHoldManager(this::fireSeatsChanged, persistenceLock.readLock());
         initializeSampleEvents();
     }
 
+    /**
+     * Create a controller that saves bookings in the given data directory.
+     * The last snapshot is loaded first and the journal written after it is
+     * replayed on top, so bookings and available seats survive a restart.
+     * A new snapshot is taken periodically so the journal stays short.
+     * Older bookings are archived to a file there; it is rebuilt from the
+     * snapshot and journal on every start.
+     */
+    public BookingController(Path dataDirectory, BookingJournal.DurabilityMode durability) throws IOException {
+        this(BookingArchive.open(dataDirectory.resolve("bookings.archive")));
+        this.snapshotFile = dataDirectory.resolve("bookings.snapshot");
+        int snapshotLastId = BookingSnapshot.load(snapshotFile, this::addEvent, this::getEventById,
+                                                  this::storeRestoredBooking);
+        bookings.advanceLastId(snapshotLastId);
+
+        this.journal = BookingJournal.open(dataDirectory.resolve("bookings.journal"), durability);
+        try {
+            // Anything at or below the snapshot's last ID is already in the snapshot
+            long recovered = journal.replay(this::getEventById, booking -> {
+                if (booking.getId() > snapshotLastId) {
+                    restoreBooking(booking);
+                }
+            });
+            bookings.finishRestore();
+            if (bookings.size() > 0) {
+                System.out.println("Restored " + bookings.size() + " bookings (" + recovered
+                        + " from the journal) from " + dataDirectory);
+            }
+        } catch (IOException e) {
+            journal.close();
+            throw e;
+        }
+
+        checkpointer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "booking-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checkpointer.scheduleWithFixedDelay(this::checkpointIfNeeded,
+                CHECKPOINT_INTERVAL_MINUTES, CHECKPOINT_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
     /**
      * Initialize sample events for demonstration
      */
     private void initializeSampleEvents() {
         // Music Events
-        events.add(new Event(1, "Rock Concert 2025", "2025-07-15", "City Arena",
+        addEvent(new Event(1, "Rock Concert 2025", "2025-07-15", "City Arena",
                            "Amazing rock concert with top artists featuring electric guitars and powerful vocals", new BigDecimal("50.00"), 500, "images/rock_concert.jpg"));
-        events.add(new Event(2, "Classical Music Evening", "2025-07-20", "Symphony Hall",
+        addEvent(new Event(2, "Classical Music Evening", "2025-07-20", "Symphony Hall",
                            "Beautiful classical music performance by the National Orchestra", new BigDecimal("75.00"), 300, "images/classical_music.jpg"));
-        events.add(new Event(3, "Jazz Festival", "2025-08-01", "Jazz Lounge",
+        addEvent(new Event(3, "Jazz Festival", "2025-08-01", "Jazz Lounge",
                            "Smooth jazz music festival with renowned international artists", new BigDecimal("60.00"), 250, "images/jazz_festival.jpg"));
-        events.add(new Event(4, "Pop Music Concert", "2025-08-10", "Stadium Arena",
+        addEvent(new Event(4, "Pop Music Concert", "2025-08-10", "Stadium Arena",
                            "Chart-topping pop artists performing their greatest hits", new BigDecimal("85.00"), 800, "images/pop_concert.jpg"));
 
         // Entertainment Events
-        events.add(new Event(5, "Comedy Show", "2025-07-25", "Comedy Club",
+        addEvent(new Event(5, "Comedy Show", "2025-07-25", "Comedy Club",
                            "Hilarious stand-up comedy night with award-winning comedians", new BigDecimal("30.00"), 200, "images/comedy_show.jpg"));
-        events.add(new Event(6, "Theater Play", "2025-08-05", "Grand Theater",
+        addEvent(new Event(6, "Theater Play", "2025-08-05", "Grand Theater",
                            "Classic Shakespeare drama performed by professional theater company", new BigDecimal("40.00"), 400, "images/theater_play.jpg"));
-        events.add(new Event(7, "Magic Show", "2025-08-12", "Entertainment Center",
+        addEvent(new Event(7, "Magic Show", "2025-08-12", "Entertainment Center",
                            "Mind-blowing magic and illusion show for the whole family", new BigDecimal("35.00"), 350, "images/magic_show.jpg"));
 
         // Sports Events
-        events.add(new Event(8, "Basketball Championship", "2025-09-18", "Sports Arena",
+        addEvent(new Event(8, "Basketball Championship", "2025-09-18", "Sports Arena",
                            "Exciting championship game between top professional teams", new BigDecimal("65.00"), 1200, "images/basketball.jpg"));
-        events.add(new Event(9, "Football Match", "2025-09-25", "National Stadium",
+        addEvent(new Event(9, "Football Match", "2025-09-25", "National Stadium",
                            "Premier league football match with international star players", new BigDecimal("70.00"), 2000, "images/football.jpg"));
 
         // Cultural Events
-        events.add(new Event(10, "Art Exhibition Opening", "2025-10-01", "Modern Art Gallery",
+        addEvent(new Event(10, "Art Exhibition Opening", "2025-10-01", "Modern Art Gallery",
                            "Contemporary art exhibition featuring works by emerging artists", new BigDecimal("25.00"), 150, "images/art_exhibition.jpg"));
-        events.add(new Event(11, "Food Festival", "2025-10-05", "Central Park",
+        addEvent(new Event(11, "Food Festival", "2025-10-05", "Central Park",
                            "International food festival with cuisines from around the world", new BigDecimal("20.00"), 500, "images/food_festival.jpg"));
-        events.add(new Event(12, "Technology Conference", "2025-10-10", "Convention Center",
+        addEvent(new Event(12, "Technology Conference", "2025-10-10", "Convention Center",
                            "Latest innovations in technology and artificial intelligence", new BigDecimal("120.00"), 600, "images/tech_conference.jpg"));
     }
 
     /**
-     * Get all available events
+     * Get all available events. The list is a read-only snapshot shared by
+     * all callers; it does not change when events are added later.
      */
-    public ArrayList<Event> getAllEvents() {
-        return new ArrayList<>(events);
+    public List<Event> getAllEvents() {
+        return events;
     }
 
     /**
      * Get event by ID
      */
     public Event getEventById(int eventId) {
-        for (Event event : events) {
-            if (event.getId() == eventId) {
-                return event;
+        return eventIndex.get(eventId);
+    }
+
+    /**
+     * Search events by name, venue and description. Every word of the query
+     * must start a word of the event, so partly typed words match too.
+     * @return matching events by event ID, or all events for an empty query
+     */
+    public List<Event> searchEvents(String query) {
+        if (EventSearchIndex.words(query).length == 0) {
+            return getAllEvents();
+        }
+        int[] eventIds = searchIndex.search(query);
+        List<Event> matches = new ArrayList<>(eventIds.length);
+        for (int eventId : eventIds) {
+            Event event = getEventById(eventId);
+            if (event != null) {
+                matches.add(event);
             }
         }
-        return null;
+        return matches;
+    }
+
+    /**
+     * Get events dated from one day to another, both inclusive, by date
+     */
+    public List<Event> getEventsBetween(LocalDate from, LocalDate to) {
+        return calendarIndex.between(from.toEpochDay(), to.toEpochDay());
+    }
+
+    /**
+     * Get events on one day
+     */
+    public List<Event> getEventsOn(LocalDate day) {
+        return getEventsBetween(day, day);
+    }
+
+    /**
+     * Get all events at a venue, ignoring case and surrounding spaces, by date
+     */
+    public List<Event> getEventsAtVenue(String venue) {
+        return calendarIndex.atVenue(venue);
+    }
+
+    /**
+     * Get events at a venue dated from one day to another, both inclusive, by date
+     */
+    public List<Event> getEventsAtVenueBetween(String venue, LocalDate from, LocalDate to) {
+        return calendarIndex.atVenueBetween(venue, from.toEpochDay(), to.toEpochDay());
+    }
+
+    /**
+     * Add an event to the catalog, replacing any event with the same ID.
+     * Add it again after changing its name, date, venue or description so
+     * event search and date queries see the change.
+     */
+    public void addEvent(Event event) {
+        Event previous;
+        synchronized (this) {
+            // The index keeps each event's slot in the list, so neither change scans it
+            int slot = eventIndex.getPosition(event.getId());
+            if (slot >= 0) {
+                previous = eventIndex.put(event, slot);
+                events = events.withSlot(slot, event);
+            } else {
+                previous = eventIndex.put(event, events.getSlotCount());
+                events = events.with(event);
+            }
+            searchIndex.put(event);
+            calendarIndex.put(event);
+        }
+        for (EventChangeListener listener : listeners) {
+            if (previous != null) {
+                listener.eventRemoved(previous);
+            }
+            listener.eventAdded(event);
+        }
+    }
+
+    /**
+     * Remove an event from the catalog
+     * @return the removed event, or null if no event has that ID
+     */
+    public Event removeEvent(int eventId) {
+        Event removed;
+        synchronized (this) {
+            int slot = eventIndex.getPosition(eventId);
+            removed = eventIndex.remove(eventId);
+            if (removed != null) {
+                events = events.withoutSlot(slot);
+                searchIndex.remove(eventId);
+                calendarIndex.remove(eventId);
+            }
+        }
+        if (removed != null) {
+            for (EventChangeListener listener : listeners) {
+                listener.eventRemoved(removed);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Be told about events added and removed and about seat changes
+     */
+    public void addEventChangeListener(EventChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeEventChangeListener(EventChangeListener listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -82,67 +268,380 @@ public class BookingController {
      */
     public Booking createBooking(String customerName, String customerEmail, String customerPhone,
                                int eventId, String seatType, int quantity) {
+        SeatType type = SeatType.fromLabel(seatType);
+        if (type == null) {
+            return null;
+        }
+        return createBooking(customerName, customerEmail, customerPhone, eventId, type, quantity);
+    }
+
+    /**
+     * Create a new booking for a seat type
+     */
+    public Booking createBooking(String customerName, String customerEmail, String customerPhone,
+                               int eventId, SeatType seatType, int quantity) {
+        Event event = getEventById(eventId);
+        if (event == null || !Booking.hasStorableFields(customerName, customerEmail, customerPhone)) {
+            return null;
+        }
+
+        // Reserve seats first - check and decrement are a single atomic step
+        if (!event.tryReserve(seatType, quantity)) {
+            return null;
+        }
+        Booking booking = recordBooking(customerName, customerEmail, customerPhone, event, seatType, quantity);
+        // Seats were taken, or taken and given back if the booking could not be saved
+        fireSeatsChanged(event);
+        return booking;
+    }
+
+    /**
+     * Create many bookings in one call, e.g. for bulk orders or imports.
+     * Requests are grouped by event and each group is all or nothing: its
+     * seats are reserved together, so either every booking of that event
+     * is made or none is. Booking IDs are allocated as one block and the
+     * whole batch is written to the journal with a single flush.
+     * @return one entry per request, in request order; null where the
+     *         request's group failed or the request was invalid
+     */
+    public List<Booking> createBookings(List<BookingRequest> requests) {
+        Booking[] results = new Booking[requests.size()];
+        Event[] requestEvents = new Event[requests.size()];
+
+        // Group request positions by event, keeping first-seen order
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            groups.computeIfAbsent(requests.get(i).getEventId(), id -> new ArrayList<>()).add(i);
+        }
+
+        // Reserve each group's seats in one step per seat type
+        List<Event> reservedEvents = new ArrayList<>(groups.size());
+        List<int[]> reservedSeats = new ArrayList<>(groups.size());
+        List<Integer> accepted = new ArrayList<>(requests.size());
+        for (Map.Entry<Integer, List<Integer>> group : groups.entrySet()) {
+            Event event = getEventById(group.getKey());
+            int[] quantities = new int[SeatType.count()];
+            boolean valid = event != null;
+            for (int i = 0; valid && i < group.getValue().size(); i++) {
+                BookingRequest request = requests.get(group.getValue().get(i));
+                valid = request.getSeatType() != null && request.getQuantity() > 0
+                        && Booking.hasStorableFields(request.getCustomerName(), request.getCustomerEmail(),
+                                                     request.getCustomerPhone());
+                if (valid) {
+                    quantities[request.getSeatType().ordinal()] += request.getQuantity();
+                }
+            }
+            if (valid && event.tryReserve(quantities)) {
+                reservedEvents.add(event);
+                reservedSeats.add(quantities);
+                for (int index : group.getValue()) {
+                    accepted.add(index);
+                    requestEvents[index] = event;
+                }
+            }
+        }
+        if (accepted.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        // One booking time for the whole batch
+        long bookingTime = System.currentTimeMillis();
+
+        int firstId = 0;
+        List<Booking> created = new ArrayList<>(accepted.size());
+        persistenceLock.readLock().lock();
+        try {
+            try {
+                firstId = bookings.allocateIds(accepted.size());
+                int nextId = firstId;
+                for (int index : accepted) {
+                    BookingRequest request = requests.get(index);
+                    Booking booking = new Booking(nextId++, request.getCustomerName(), request.getCustomerEmail(),
+                                                  request.getCustomerPhone(), requestEvents[index],
+                                                  request.getSeatType(), request.getQuantity(), bookingTime);
+                    created.add(booking);
+                    results[index] = booking;
+                }
+                // Anything the store would reject must fail before the batch is journaled
+                for (Booking booking : created) {
+                    BookingRepository.checkStorable(booking);
+                }
+                if (journal != null) {
+                    journal.appendAll(created);
+                }
+                bookings.addAll(created);
+            } catch (IOException | RuntimeException e) {
+                // Batch could not be saved - give every reserved seat and booking ID back
+                for (int i = 0; i < reservedEvents.size(); i++) {
+                    int[] quantities = reservedSeats.get(i);
+                    for (int slot = 0; slot < quantities.length; slot++) {
+                        reservedEvents.get(i).releaseSeats(SeatType.fromOrdinal(slot), quantities[slot]);
+                    }
+                }
+                if (firstId > 0) {
+                    bookings.abandon(firstId, accepted.size());
+                }
+                System.out.println("Could not save booking batch: " + e.getMessage());
+                Arrays.fill(results, null);
+                return Arrays.asList(results);
+            }
+            emailIndex.addAll(created);
+            phoneIndex.addAll(created);
+        } finally {
+            persistenceLock.readLock().unlock();
+        }
+        for (Event event : reservedEvents) {
+            fireSeatsChanged(event);
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Hold seats while the customer pays. The seats are taken out of the
+     * event straight away and go back on sale if the hold is not confirmed
+     * within ttlMillis.
+     * @return the hold, or null if the event does not exist or has too few seats left
+     */
+    public SeatHold holdSeats(int eventId, SeatType seatType, int quantity, long ttlMillis) {
         Event event = getEventById(eventId);
         if (event == null) {
             return null;
         }
+        SeatHold hold = seatHolds.hold(event, seatType, quantity, ttlMillis);
+        if (hold != null) {
+            fireSeatsChanged(event);
+        }
+        return hold;
+    }
 
-        if (!event.hasAvailableSeats(quantity)) {
+    /**
+     * Turn a hold into a booking
+     * @return the booking, or null if the hold has expired, was already used or could not be saved
+     */
+    public Booking confirmHold(SeatHold hold, String customerName, String customerEmail, String customerPhone) {
+        // Details that cannot be saved leave the hold open for another try
+        if (!Booking.hasStorableFields(customerName, customerEmail, customerPhone)) {
             return null;
         }
+        boolean confirmed;
+        Booking booking = null;
+        // A checkpoint must see the seats either as held or as booked
+        persistenceLock.readLock().lock();
+        try {
+            confirmed = seatHolds.confirm(hold);
+            if (confirmed) {
+                booking = recordBooking(customerName, customerEmail, customerPhone,
+                                        hold.getEvent(), hold.getSeatType(), hold.getQuantity());
+            }
+        } finally {
+            persistenceLock.readLock().unlock();
+        }
+        // Listeners are told only once the lock is released
+        if (!confirmed) {
+            seatHolds.expireIfDue(hold);
+        } else if (booking == null) {
+            fireSeatsChanged(hold.getEvent());   // The seats went back on sale
+        }
+        return booking;
+    }
 
-        // Create booking date
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-        String bookingDate = sdf.format(new Date());
+    /**
+     * Give the seats of a hold back, e.g. when the payment fails
+     */
+    public boolean releaseHold(SeatHold hold) {
+        return seatHolds.release(hold);
+    }
 
-        // Create booking
-        Booking booking = new Booking(nextBookingId++, customerName, customerEmail, customerPhone,
-                                    event, seatType, quantity, bookingDate);
+    /**
+     * Get number of open seat holds
+     */
+    public int getActiveHoldCount() {
+        return seatHolds.getActiveHolds();
+    }
 
-        // Update available seats
-        event.bookSeats(quantity);
+    /**
+     * Create and save a booking for seats that are already reserved. If it
+     * cannot be saved the seats are given back; the caller tells listeners
+     * once it holds no lock.
+     */
+    private Booking recordBooking(String customerName, String customerEmail, String customerPhone,
+                                  Event event, SeatType seatType, int quantity) {
+        // Booking time is formatted only when a receipt shows it
+        long bookingTime = System.currentTimeMillis();
 
-        // Store booking
-        bookings.add(booking);
+        // Create, save and store booking under the next booking ID
+        persistenceLock.readLock().lock();
+        try {
+            Booking booking = bookings.add(id -> persist(new Booking(id, customerName, customerEmail,
+                                                  customerPhone, event, seatType, quantity, bookingTime)));
+            indexBooking(booking);
+            return booking;
+        } catch (RuntimeException e) {
+            // Booking could not be saved - give the seats back; its ID was already given up
+            event.releaseSeats(seatType, quantity);
+            Throwable cause = e instanceof UncheckedIOException ? e.getCause() : e;
+            System.out.println("Could not save booking: " + cause.getMessage());
+            return null;
+        } finally {
+            persistenceLock.readLock().unlock();
+        }
+    }
 
+    /**
+     * Write a booking to the journal before it becomes visible
+     */
+    private Booking persist(Booking booking) {
+        if (journal != null) {
+            try {
+                journal.append(booking);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
         return booking;
     }
 
     /**
-     * Get all bookings
+     * Apply a booking recovered from the journal
      */
-    public ArrayList<Booking> getAllBookings() {
-        return new ArrayList<>(bookings);
+    private void restoreBooking(Booking booking) {
+        if (!booking.getEvent().tryReserve(booking.getSeatType(), booking.getQuantity())) {
+            System.out.println("Recovered booking #" + booking.getId() + " exceeds the seats of "
+                    + booking.getEvent().getName());
+        }
+        storeRestoredBooking(booking);
+    }
+
+    /**
+     * Store a booking from saved data under its own ID
+     */
+    private void storeRestoredBooking(Booking booking) {
+        bookings.restore(booking);
+        indexBooking(booking);
+    }
+
+    private void fireSeatsChanged(Event event) {
+        for (EventChangeListener listener : listeners) {
+            listener.seatsChanged(event);
+        }
+    }
+
+    private void indexBooking(Booking booking) {
+        emailIndex.add(booking);
+        phoneIndex.add(booking);
+    }
+
+    /**
+     * Write a snapshot of all events and bookings, then empty the journal.
+     * New bookings wait while the snapshot is written.
+     */
+    public void checkpoint() throws IOException {
+        if (journal == null) {
+            return;
+        }
+        persistenceLock.writeLock().lock();
+        try {
+            journal.sync();
+            // Holds are not saved; their seats are on sale again after a restart
+            BookingSnapshot.write(snapshotFile, getAllEvents(), bookings.view(), bookings.getLastId(),
+                                  seatHolds.getHeldSeats());
+            journal.reset();
+        } finally {
+            persistenceLock.writeLock().unlock();
+        }
+    }
+
+    private void checkpointIfNeeded() {
+        try {
+            if (!journal.isEmpty()) {
+                checkpoint();
+            }
+        } catch (IOException e) {
+            System.out.println("Booking checkpoint failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stop expiring seat holds, then take a final snapshot and close the
+     * booking journal, if there is one, and the booking archive
+     */
+    public void close() {
+        seatHolds.close();
+        if (journal != null) {
+            checkpointer.shutdown();
+            checkpointIfNeeded();
+            try {
+                journal.close();
+            } catch (IOException e) {
+                System.out.println("Could not close booking journal: " + e.getMessage());
+            }
+        }
+        bookings.close();
+        try {
+            archive.close();
+        } catch (IOException e) {
+            System.out.println("Could not close booking archive: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get all bookings in ID order, as a read-only view of the store.
+     * Bookings are rebuilt one at a time while iterating, so no copy of
+     * the whole store is made or kept.
+     */
+    public Collection<Booking> getAllBookings() {
+        return bookings.view();
+    }
+
+    /**
+     * Get booking by ID
+     */
+    public Booking getBookingById(int bookingId) {
+        return bookings.get(bookingId);
+    }
+
+    /**
+     * Find all bookings for an email address, ignoring case and
+     * surrounding spaces, oldest first
+     */
+    public List<Booking> findBookingsByEmail(String email) {
+        return emailIndex.find(email, bookings::get);
+    }
+
+    /**
+     * Find all bookings for a phone number, comparing digits only, oldest first
+     */
+    public List<Booking> findBookingsByPhone(String phone) {
+        return phoneIndex.find(phone, bookings::get);
     }
 
     /**
      * Calculate price for given parameters
      */
     public BigDecimal calculatePrice(int eventId, String seatType, int quantity) {
+        SeatType type = SeatType.fromLabel(seatType);
+        return calculatePrice(eventId, type != null ? type : SeatType.STANDARD, quantity);
+    }
+
+    public BigDecimal calculatePrice(int eventId, SeatType seatType, int quantity) {
         Event event = getEventById(eventId);
         if (event == null) {
             return BigDecimal.ZERO;
         }
-        return Booking.calculateTotalPrice(event.getBasePrice(), seatType, quantity);
+        return Booking.calculateTotalPrice(event, seatType, quantity);
     }
 
     /**
      * Validate seat type
      */
     public boolean isValidSeatType(String seatType) {
-        return Booking.SEAT_TYPE_STANDARD.equals(seatType) ||
-               Booking.SEAT_TYPE_VIP.equals(seatType) ||
-               Booking.SEAT_TYPE_PREMIUM.equals(seatType);
+        return SeatType.fromLabel(seatType) != null;
     }
 
     /**
      * Get available seat types
      */
     public String[] getSeatTypes() {
-        return new String[]{
-            Booking.SEAT_TYPE_STANDARD,
-            Booking.SEAT_TYPE_VIP,
-            Booking.SEAT_TYPE_PREMIUM
-        };
+        return SeatType.labels();
     }
 }
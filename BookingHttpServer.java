@@ -0,0 +1,341 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Headless HTTP front end for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Serves the same BookingController the Swing screens use, without
+ * loading any Swing classes, so the booking engine can run on a server.
+ * Requests run on virtual threads when the runtime has them.
+ *
+ * Endpoints:
+ *   GET  /events            all events
+ *   GET  /events/{id}       one event
+ *   GET  /bookings/{id}     one booking
+ *   POST /bookings          form fields name, email, phone, eventId, seatType, quantity
+ *
+ * Usage: java -cp target/mini-ticket-system-3.0.jar BookingHttpServer [port] [dataDirectory]
+ */
+public class BookingHttpServer {
+    private static final int MAX_QUANTITY = 10;       // Same limit as the booking form spinner
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+    private static final int PLATFORM_THREADS = 256;  // Pool size when virtual threads are unavailable
+
+    private final BookingController bookingController;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public BookingHttpServer(BookingController bookingController, int port) throws IOException {
+        this.bookingController = bookingController;
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.executor = ThreadSupport.newTaskExecutor("booking-http", PLATFORM_THREADS);
+        server.setExecutor(executor);
+        server.createContext("/events", this::handleEvents);
+        server.createContext("/bookings", this::handleBookings);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        String dataDirectory = args.length > 1 ? args[1] : "data";
+
+        BookingController controller = new BookingController(Paths.get(dataDirectory),
+                BookingJournal.DurabilityMode.GROUP_COMMIT);
+        BookingHttpServer httpServer = new BookingHttpServer(controller, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            httpServer.stop();
+            controller.close();
+        }));
+        httpServer.start();
+        System.out.println("Booking server listening on port " + port
+                + (ThreadSupport.hasVirtualThreads() ? " (virtual threads)" : " (platform threads)"));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // Request handlers
+
+    private void handleEvents(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Method not allowed");
+                return;
+            }
+            String id = pathId(exchange, "/events");
+            if (id == null) {
+                List<Event> events = bookingController.getAllEvents();
+                StringBuilder json = new StringBuilder(events.size() * 256).append('[');
+                for (int i = 0; i < events.size(); i++) {
+                    if (i > 0) {
+                        json.append(',');
+                    }
+                    appendEvent(json, events.get(i));
+                }
+                send(exchange, 200, json.append(']').toString());
+                return;
+            }
+            Event event = bookingController.getEventById(parseId(id));
+            if (event == null) {
+                sendError(exchange, 404, "Event not found");
+                return;
+            }
+            StringBuilder json = new StringBuilder(256);
+            appendEvent(json, event);
+            send(exchange, 200, json.toString());
+        } catch (NumberFormatException e) {
+            sendError(exchange, 400, "Invalid event ID");
+        } catch (RuntimeException e) {
+            // Answer instead of dropping the connection without a response
+            System.out.println("Request failed: " + e);
+            sendError(exchange, 500, "Internal server error");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleBookings(HttpExchange exchange) throws IOException {
+        try {
+            String id = pathId(exchange, "/bookings");
+            if ("GET".equals(exchange.getRequestMethod()) && id != null) {
+                Booking booking = bookingController.getBookingById(parseId(id));
+                if (booking == null) {
+                    sendError(exchange, 404, "Booking not found");
+                    return;
+                }
+                StringBuilder json = new StringBuilder(256);
+                appendBooking(json, booking);
+                send(exchange, 200, json.toString());
+            } else if ("POST".equals(exchange.getRequestMethod()) && id == null) {
+                createBooking(exchange);
+            } else {
+                sendError(exchange, 405, "Method not allowed");
+            }
+        } catch (NumberFormatException e) {
+            sendError(exchange, 400, "Invalid number");
+        } catch (RuntimeException e) {
+            // Answer instead of dropping the connection without a response
+            System.out.println("Request failed: " + e);
+            sendError(exchange, 500, "Internal server error");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void createBooking(HttpExchange exchange) throws IOException {
+        String body = readBody(exchange);
+        if (body == null) {
+            sendError(exchange, 413, "Request body too large");
+            return;
+        }
+        Map<String, String> form;
+        try {
+            form = parseForm(body);
+        } catch (IllegalArgumentException e) {
+            // Malformed percent escape
+            sendError(exchange, 400, "Invalid form data");
+            return;
+        }
+        String name = form.getOrDefault("name", "").trim();
+        String email = form.getOrDefault("email", "").trim();
+        String phone = form.getOrDefault("phone", "").trim();
+        SeatType seatType = SeatType.fromLabel(form.getOrDefault("seatType", SeatType.STANDARD.getLabel()));
+
+        // Same rules as the booking form
+        if (name.isEmpty()) {
+            sendError(exchange, 400, "Please enter customer name.");
+            return;
+        }
+        if (email.isEmpty()) {
+            sendError(exchange, 400, "Please enter email address.");
+            return;
+        }
+        int eventId = parseId(form.getOrDefault("eventId", ""));
+        int quantity = Integer.parseInt(form.getOrDefault("quantity", "1").trim());
+        if (seatType == null) {
+            sendError(exchange, 400, "Invalid seat type");
+            return;
+        }
+        if (quantity < 1 || quantity > MAX_QUANTITY) {
+            sendError(exchange, 400, "Quantity must be between 1 and " + MAX_QUANTITY);
+            return;
+        }
+        if (bookingController.getEventById(eventId) == null) {
+            sendError(exchange, 404, "Event not found");
+            return;
+        }
+
+        Booking booking = bookingController.createBooking(name, email, phone, eventId, seatType, quantity);
+        if (booking == null) {
+            sendError(exchange, 409, "Not enough " + seatType.getLabel() + " seats available");
+            return;
+        }
+        StringBuilder json = new StringBuilder(256);
+        appendBooking(json, booking);
+        send(exchange, 201, json.toString());
+    }
+
+    // JSON output
+
+    private static void appendEvent(StringBuilder json, Event event) {
+        json.append("{\"id\":").append(event.getId());
+        json.append(",\"name\":");
+        appendString(json, event.getName());
+        json.append(",\"date\":");
+        appendString(json, event.getDate());
+        json.append(",\"venue\":");
+        appendString(json, event.getVenue());
+        json.append(",\"description\":");
+        appendString(json, event.getDescription());
+        json.append(",\"basePrice\":").append(event.getBasePrice().toPlainString());
+        json.append(",\"totalSeats\":").append(event.getTotalSeats());
+        json.append(",\"availableSeats\":{");
+        SeatType[] seatTypes = SeatType.all();
+        for (int i = 0; i < seatTypes.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendString(json, seatTypes[i].getLabel());
+            json.append(':').append(event.getAvailableSeats(seatTypes[i]));
+        }
+        json.append("}}");
+    }
+
+    private static void appendBooking(StringBuilder json, Booking booking) {
+        json.append("{\"id\":").append(booking.getId());
+        json.append(",\"eventId\":").append(booking.getEvent().getId());
+        json.append(",\"customerName\":");
+        appendString(json, booking.getCustomerName());
+        json.append(",\"customerEmail\":");
+        appendString(json, booking.getCustomerEmail());
+        json.append(",\"customerPhone\":");
+        appendString(json, booking.getCustomerPhone());
+        json.append(",\"seatType\":");
+        appendString(json, booking.getSeatType().getLabel());
+        json.append(",\"quantity\":").append(booking.getQuantity());
+        json.append(",\"totalPrice\":").append(booking.getTotalPrice().toPlainString());
+        json.append(",\"bookingDate\":");
+        appendString(json, booking.getBookingDate());
+        json.append('}');
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+    // HTTP helpers
+
+    // The part of the path after the context, or null if there is none
+    private static String pathId(HttpExchange exchange, String context) {
+        String path = exchange.getRequestURI().getPath();
+        if (path.length() <= context.length() + 1) {
+            return null;
+        }
+        return path.substring(context.length() + 1);
+    }
+
+    private static int parseId(String value) {
+        return Integer.parseInt(value.trim());
+    }
+
+    // Returns null if the body is longer than MAX_BODY_BYTES
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (body.size() + read > MAX_BODY_BYTES) {
+                    // Read the rest unkept; closing with data unread would reset the connection before the error is sent
+                    in.transferTo(OutputStream.nullOutputStream());
+                    return null;
+                }
+                body.write(buffer, 0, read);
+            }
+            return body.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Map<String, String> parseForm(String body) {
+        Map<String, String> form = new HashMap<>();
+        for (String pair : body.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int equals = pair.indexOf('=');
+            String key = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            form.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return form;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder json = new StringBuilder("{\"error\":");
+        appendString(json, message);
+        send(exchange, status, json.append('}').toString());
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,535 @@
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only booking journal for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Every confirmed booking is appended as a checksummed binary record.
+ * On startup the journal is replayed to rebuild bookings and seat counts.
+ *
+ * File layout: [magic][version] followed by records of
+ * [payload length][CRC32 of payload][payload]. A torn record at the end
+ * of the file (crash during write) is detected by its length or checksum
+ * and cut off during replay. Records written before booking times were
+ * stored as epoch millis carry a formatted date instead, and records
+ * written before totals were stored are priced from the event; replay
+ * reads them all.
+ */
+public class BookingJournal implements AutoCloseable {
+
+    /**
+     * How hard append() works to make a booking survive a crash
+     */
+    public enum DurabilityMode {
+        SYNC,          // Write and fsync every record before returning
+        GROUP_COMMIT,  // Wait for fsync, but share one fsync between concurrent appends
+        ASYNC          // Return after buffering, fsync in the background every flush interval
+    }
+
+    private static final int MAGIC = 0x4D544A31;          // "MTJ1"
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int MAX_RECORD_SIZE = 1 << 20;
+    private static final byte RECORD_BOOKING = 1;        // Booking with a formatted date string (old)
+    private static final byte RECORD_BOOKING_TIMED = 2;  // Booking with epoch-millis booking time (old)
+    private static final byte RECORD_BOOKING_PRICED = 3; // Booking with booking time and total
+    private static final int READ_BUFFER_SIZE = 1 << 20;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final DurabilityMode mode;
+    private final CRC32 crc;
+    private ScheduledExecutorService flusher;
+
+    // Group commit state, guarded by this
+    private ByteBuffer pending;       // Records appended but not yet written
+    private ByteBuffer spare;         // Recycled buffer for the next batch
+    private long appendedSeq;         // Records appended so far
+    private long durableSeq;          // Records written and fsynced
+    private boolean flushing;         // A leader is writing a batch right now
+    private IOException failure;      // Sticky write failure, journal is unusable after this
+    private boolean closed;
+
+    private BookingJournal(Path file, FileChannel channel, DurabilityMode mode) {
+        this.file = file;
+        this.channel = channel;
+        this.mode = mode;
+        this.crc = new CRC32();
+        this.pending = ByteBuffer.allocate(64 * 1024);
+        this.spare = ByteBuffer.allocate(64 * 1024);
+    }
+
+    /**
+     * Open (or create) a journal file
+     * @param flushIntervalMillis how often ASYNC mode fsyncs, ignored by the other modes
+     */
+    public static BookingJournal open(Path file, DurabilityMode mode, long flushIntervalMillis) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < FILE_HEADER_SIZE) {
+                ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).flip();
+                channel.truncate(0);
+                writeFully(channel, header, 0);
+                channel.force(true);
+            } else {
+                ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+                readFully(channel, header, 0);
+                header.flip();
+                if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                    throw new IOException("Not a booking journal: " + file);
+                }
+            }
+            channel.position(channel.size());
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        BookingJournal journal = new BookingJournal(file, channel, mode);
+        if (mode == DurabilityMode.ASYNC) {
+            journal.startFlusher(flushIntervalMillis);
+        }
+        return journal;
+    }
+
+    public static BookingJournal open(Path file, DurabilityMode mode) throws IOException {
+        return open(file, mode, 200);
+    }
+
+    /**
+     * Replay every intact record in the journal. A torn tail is truncated
+     * so new records are appended right after the last good one.
+     * @param events resolves event IDs to the events the bookings belong to
+     * @param sink receives each recovered booking in file order
+     * @return number of bookings replayed
+     */
+    public synchronized long replay(IntFunction<Event> events, Consumer<Booking> sink) throws IOException {
+        long position = FILE_HEADER_SIZE;
+        long end = channel.size();
+        long replayed = 0;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        buffer.limit(0);
+
+        while (position < end) {
+            // Make sure a whole record header is buffered
+            if (buffer.remaining() < RECORD_HEADER_SIZE) {
+                refill(buffer, position);
+                if (buffer.remaining() < RECORD_HEADER_SIZE) {
+                    break;
+                }
+            }
+            int length = buffer.getInt(buffer.position());
+            int checksum = buffer.getInt(buffer.position() + 4);
+            if (length <= 0 || length > MAX_RECORD_SIZE || position + RECORD_HEADER_SIZE + length > end) {
+                break;
+            }
+            if (buffer.remaining() < RECORD_HEADER_SIZE + length) {
+                refill(buffer, position);
+                if (buffer.remaining() < RECORD_HEADER_SIZE + length) {
+                    break;
+                }
+            }
+
+            buffer.position(buffer.position() + RECORD_HEADER_SIZE);
+            ByteBuffer payload = buffer.slice();
+            payload.limit(length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            Booking booking = decode(payload, events);
+            if (booking != null) {
+                sink.accept(booking);
+                replayed++;
+            }
+            buffer.position(buffer.position() + length);
+            position += RECORD_HEADER_SIZE + length;
+        }
+
+        if (position < end) {
+            System.out.println("Booking journal: discarding " + (end - position)
+                    + " bytes of incomplete data at the end of " + file);
+            channel.truncate(position);
+            channel.force(true);
+        }
+        channel.position(position);
+        return replayed;
+    }
+
+    /**
+     * Append a booking. Returns once the record is as durable as the mode promises.
+     */
+    public void append(Booking booking) throws IOException {
+        appendAll(Collections.singletonList(booking));
+    }
+
+    /**
+     * Append several bookings as one unit: they are buffered together and
+     * made durable by a single flush, so a batch costs one fsync at most.
+     * If any booking cannot be encoded, none of the batch is appended.
+     */
+    public void appendAll(List<Booking> bookings) throws IOException {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        long seq;
+        synchronized (this) {
+            checkUsable();
+            int batchStart = pending.position();
+            try {
+                for (Booking booking : bookings) {
+                    encode(booking);
+                }
+            } catch (RuntimeException e) {
+                // Drop the records already encoded, or the next flush would write them
+                pending.position(batchStart);
+                throw e;
+            }
+            seq = ++appendedSeq;
+            if (mode == DurabilityMode.SYNC) {
+                flushLocked();
+                return;
+            }
+        }
+        if (mode == DurabilityMode.GROUP_COMMIT) {
+            awaitDurable(seq);
+        }
+    }
+
+    /**
+     * Write and fsync everything appended so far
+     */
+    public void sync() throws IOException {
+        long seq;
+        synchronized (this) {
+            seq = appendedSeq;
+        }
+        awaitDurable(seq);
+    }
+
+    /**
+     * Drop every record and keep only the file header.
+     * Only call this once a snapshot holds everything the journal held
+     * and no other thread is appending.
+     */
+    public void reset() throws IOException {
+        sync();
+        synchronized (this) {
+            checkUsable();
+            channel.truncate(FILE_HEADER_SIZE);
+            channel.force(true);
+            channel.position(FILE_HEADER_SIZE);
+        }
+    }
+
+    /**
+     * True if the journal holds no records
+     */
+    public boolean isEmpty() throws IOException {
+        synchronized (this) {
+            if (pending.position() > 0 || flushing) {
+                return false;
+            }
+        }
+        return channel.size() <= FILE_HEADER_SIZE;
+    }
+
+    /**
+     * Current size of the journal file in bytes
+     */
+    public long size() throws IOException {
+        return channel.size();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        try {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+            }
+            if (failure == null) {
+                sync();
+            }
+        } finally {
+            synchronized (this) {
+                closed = true;
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Group commit: the first waiter to find no flush in progress becomes
+     * the leader and writes every record buffered so far with one fsync.
+     * Later appenders pile up in the next batch while the leader works.
+     */
+    private void awaitDurable(long seq) throws IOException {
+        while (true) {
+            ByteBuffer batch;
+            long batchSeq;
+            synchronized (this) {
+                while (flushing && durableSeq < seq && failure == null) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException("Interrupted while waiting for journal flush", e);
+                    }
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+                if (durableSeq >= seq) {
+                    return;
+                }
+                flushing = true;
+                batch = pending;
+                batchSeq = appendedSeq;
+                pending = spare;
+                spare = null;
+            }
+
+            IOException error = null;
+            try {
+                batch.flip();
+                writeFully(channel, batch, -1);
+                channel.force(false);
+            } catch (IOException e) {
+                error = e;
+            }
+
+            synchronized (this) {
+                flushing = false;
+                if (error != null) {
+                    failure = error;
+                } else {
+                    durableSeq = batchSeq;
+                }
+                batch.clear();
+                spare = batch;
+                notifyAll();
+            }
+        }
+    }
+
+    // SYNC mode only: caller holds the monitor, so no group commit leader can be active
+    private void flushLocked() throws IOException {
+        try {
+            pending.flip();
+            writeFully(channel, pending, -1);
+            channel.force(false);
+            pending.clear();
+            durableSeq = appendedSeq;
+        } catch (IOException e) {
+            failure = e;
+            throw e;
+        }
+    }
+
+    private void startFlusher(long flushIntervalMillis) {
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "booking-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(() -> {
+            try {
+                sync();
+            } catch (IOException e) {
+                System.out.println("Booking journal flush failed: " + e.getMessage());
+            }
+        }, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void checkUsable() throws IOException {
+        if (closed) {
+            throw new IOException("Booking journal is closed");
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    // Record encoding
+
+    private void encode(Booking booking) {
+        byte[] name = utf8(booking.getCustomerName());
+        byte[] email = utf8(booking.getCustomerEmail());
+        byte[] phone = utf8(booking.getCustomerPhone());
+        byte[] seatType = utf8(booking.getSeatType().getLabel());
+        long mills = Booking.toMills(booking.getTotalPrice());
+        // Totals that are not mills follow as a string, empty for none
+        byte[] total = null;
+        if (mills == Booking.NOT_MILLS) {
+            total = utf8(booking.getTotalPrice() != null ? booking.getTotalPrice().toString() : null);
+        }
+        int length = 1 + 4 + 4 + 4 + 8 + 8
+                + 2 + name.length + 2 + email.length + 2 + phone.length
+                + 2 + seatType.length + (total != null ? 2 + total.length : 0);
+
+        ensurePendingCapacity(RECORD_HEADER_SIZE + length);
+        int start = pending.position();
+        pending.putInt(length).putInt(0);
+        pending.put(RECORD_BOOKING_PRICED);
+        pending.putInt(booking.getId());
+        pending.putInt(booking.getEvent().getId());
+        pending.putInt(booking.getQuantity());
+        pending.putLong(booking.getBookingTimeMillis());
+        pending.putLong(mills);
+        putString(name);
+        putString(email);
+        putString(phone);
+        putString(seatType);
+        if (total != null) {
+            putString(total);
+        }
+
+        ByteBuffer payload = pending.duplicate();
+        payload.position(start + RECORD_HEADER_SIZE).limit(start + RECORD_HEADER_SIZE + length);
+        crc.reset();
+        crc.update(payload);
+        pending.putInt(start + 4, (int) crc.getValue());
+    }
+
+    private static Booking decode(ByteBuffer payload, IntFunction<Event> events) {
+        byte type = payload.get();
+        if (type != RECORD_BOOKING && type != RECORD_BOOKING_TIMED && type != RECORD_BOOKING_PRICED) {
+            return null;
+        }
+        int id = payload.getInt();
+        int eventId = payload.getInt();
+        int quantity = payload.getInt();
+        long bookingTime = type != RECORD_BOOKING ? payload.getLong() : 0L;
+        long mills = type == RECORD_BOOKING_PRICED ? payload.getLong() : Booking.NOT_MILLS;
+        String name = getString(payload);
+        String email = getString(payload);
+        String phone = getString(payload);
+        String seatType = getString(payload);
+        if (type == RECORD_BOOKING) {
+            bookingTime = TimestampFormat.parse(getString(payload));
+        }
+        BigDecimal totalPrice = null;
+        if (type == RECORD_BOOKING_PRICED) {
+            if (mills != Booking.NOT_MILLS) {
+                totalPrice = BigDecimal.valueOf(mills, Booking.MILLS_SCALE);
+            } else {
+                String total = getString(payload);
+                totalPrice = total.isEmpty() ? null : new BigDecimal(total);
+            }
+        }
+
+        Event event = events.apply(eventId);
+        if (event == null) {
+            System.out.println("Booking journal: skipping booking #" + id + " for unknown event " + eventId);
+            return null;
+        }
+        if (type != RECORD_BOOKING_PRICED) {
+            // Written before totals were stored - price it from the event
+            return new Booking(id, name, email, phone, event, seatType, quantity, bookingTime);
+        }
+        SeatType knownType = SeatType.fromLabel(seatType);
+        return new Booking(id, name, email, phone, event, knownType != null ? knownType : SeatType.STANDARD,
+                           quantity, totalPrice, bookingTime);
+    }
+
+    private void putString(byte[] bytes) {
+        pending.putShort((short) bytes.length);
+        pending.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xFFFF;
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Booking.MAX_FIELD_BYTES) {
+            throw new IllegalArgumentException("Booking field longer than " + Booking.MAX_FIELD_BYTES + " bytes");
+        }
+        return bytes;
+    }
+
+    private void ensurePendingCapacity(int needed) {
+        if (pending.remaining() < needed) {
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + needed));
+            pending.flip();
+            bigger.put(pending);
+            pending = bigger;
+        }
+    }
+
+    // Channel helpers
+
+    // Keep the unread bytes (which start at file offset position) and read more after them
+    private void refill(ByteBuffer buffer, long position) throws IOException {
+        buffer.compact();
+        long readFrom = position + buffer.position();
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, readFrom);
+            if (read <= 0) {
+                break;
+            }
+            readFrom += read;
+        }
+        buffer.flip();
+    }
+
+    // position < 0 writes at the channel's current position
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (position < 0) {
+                channel.write(buffer);
+            } else {
+                position += channel.write(buffer, position);
+            }
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of journal");
+            }
+            position += read;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Booking lookup index for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Finds bookings by customer email or phone without scanning them all.
+ * Keys are normalized first: emails are trimmed and lower-cased, phone
+ * numbers keep only their digits.
+ *
+ * Only primitive arrays are kept, never the key strings: a hash bucket
+ * table holds the newest booking ID per bucket, and arrays indexed by
+ * booking ID chain each booking to the previous one in its bucket and
+ * remember its key hash. That is about 12 bytes per indexed booking.
+ * Candidates whose hash matches are checked against the booking itself,
+ * so hash collisions never show up in results.
+ */
+public class BookingLookupIndex {
+    public enum Field { EMAIL, PHONE }
+
+    private static final int NONE = 0;      // Booking IDs start at 1
+    private static final int MAX_LOAD = 2;  // Average bookings per bucket before the table doubles
+
+    private final Field field;
+    private int[] buckets = new int[16];    // Newest booking ID per bucket
+    private int[] next = new int[16];       // Previous booking ID in the same bucket, by booking ID
+    private int[] hashes = new int[16];     // Key hash by booking ID, NONE if not indexed
+    private int size;
+
+    public BookingLookupIndex(Field field) {
+        this.field = field;
+    }
+
+    /**
+     * Index a stored booking; bookings without a usable key are skipped
+     */
+    public synchronized void add(Booking booking) {
+        int hash = hash(field, key(booking));
+        if (hash != NONE) {
+            insert(booking.getId(), hash);
+        }
+    }
+
+    /**
+     * Index several stored bookings with one lock
+     */
+    public synchronized void addAll(List<Booking> bookings) {
+        for (Booking booking : bookings) {
+            add(booking);
+        }
+    }
+
+    /**
+     * Find bookings whose key matches after normalization, oldest first
+     * @param bookings looks a booking up by ID
+     */
+    public List<Booking> find(String key, IntFunction<Booking> bookings) {
+        String normalized = normalize(field, key);
+        int hash = hash(field, normalized);
+        if (hash == NONE) {
+            return new ArrayList<>();
+        }
+        int[] candidates = candidates(hash);
+        List<Booking> result = new ArrayList<>(candidates.length);
+        for (int id : candidates) {
+            Booking booking = bookings.apply(id);
+            if (booking != null && normalized.equals(normalize(field, key(booking)))) {
+                result.add(booking);
+            }
+        }
+        return result;
+    }
+
+    /** Get number of indexed bookings */
+    public synchronized int size() {
+        return size;
+    }
+
+    /** Get bytes used by the index arrays */
+    public synchronized long getMemoryBytes() {
+        return 4L * (buckets.length + next.length + hashes.length);
+    }
+
+    /**
+     * Normalize a key the way the index compares keys
+     * @return the normalized key, empty if nothing usable is left
+     */
+    public static String normalize(Field field, String key) {
+        if (key == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(key.length());
+        if (field == Field.EMAIL) {
+            normalized.append(key.trim());
+            for (int i = 0; i < normalized.length(); i++) {
+                normalized.setCharAt(i, Character.toLowerCase(normalized.charAt(i)));
+            }
+        } else {
+            for (int i = 0; i < key.length(); i++) {
+                char c = key.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    normalized.append(c);
+                }
+            }
+        }
+        return normalized.toString();
+    }
+
+    // Index internals
+
+    private String key(Booking booking) {
+        return field == Field.EMAIL ? booking.getCustomerEmail() : booking.getCustomerPhone();
+    }
+
+    // Hash of the normalized key without building it; NONE for an empty key
+    private static int hash(Field field, String key) {
+        if (key == null) {
+            return NONE;
+        }
+        int hash = 0;
+        int length = 0;
+        if (field == Field.EMAIL) {
+            int start = 0;
+            int end = key.length();
+            while (start < end && key.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && key.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + Character.toLowerCase(key.charAt(i));
+            }
+            length = end - start;
+        } else {
+            for (int i = 0; i < key.length(); i++) {
+                char c = key.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    hash = 31 * hash + c;
+                    length++;
+                }
+            }
+        }
+        if (length == 0) {
+            return NONE;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash == NONE ? 1 : hash;
+    }
+
+    private void insert(int id, int hash) {
+        if (id >= next.length) {
+            int capacity = Math.max(id + 1, next.length + (next.length >> 1));
+            next = Arrays.copyOf(next, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+        }
+        if (hashes[id] != NONE) {
+            return;   // Already indexed
+        }
+        if (size + 1 > buckets.length * MAX_LOAD) {
+            rehash(buckets.length * 2);
+        }
+        hashes[id] = hash;
+        int bucket = hash & (buckets.length - 1);
+        next[id] = buckets[bucket];
+        buckets[bucket] = id;
+        size++;
+    }
+
+    private void rehash(int capacity) {
+        buckets = new int[capacity];
+        int mask = capacity - 1;
+        for (int id = 1; id < hashes.length; id++) {
+            if (hashes[id] != NONE) {
+                int bucket = hashes[id] & mask;
+                next[id] = buckets[bucket];
+                buckets[bucket] = id;
+            }
+        }
+    }
+
+    // IDs in the hash's bucket whose stored hash matches, in ID order
+    private synchronized int[] candidates(int hash) {
+        int[] ids = new int[4];
+        int count = 0;
+        for (int id = buckets[hash & (buckets.length - 1)]; id != NONE; id = next[id]) {
+            if (hashes[id] == hash) {
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                }
+                ids[count++] = id;
+            }
+        }
+        ids = Arrays.copyOf(ids, count);
+        Arrays.sort(ids);
+        return ids;
+    }
+}
@@ -0,0 +1,561 @@
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * Thread-safe booking store for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Booking IDs come from a single atomic sequence, so they are unique and
+ * handed out in increasing order. Each booking is stored in the slot for
+ * its ID inside fixed-size segments, which means appends never take a lock
+ * and never copy existing data.
+ *
+ * Segments are column stores rather than arrays of Booking objects: one
+ * primitive array per field, with events and customer strings replaced by
+ * dictionary codes. A stored booking costs about 37 bytes plus its share
+ * of the segment's string dictionary. Booking objects are rebuilt from the
+ * columns when asked for, so changing a returned Booking does not change
+ * the store.
+ *
+ * With a BookingArchive, only the newest segments stay on the heap. Once
+ * every slot of an older segment is settled (stored, or known never to
+ * be), a background thread copies it into the archive and drops the heap
+ * copy. Each segment then has its own string dictionary, so that goes
+ * too. Archived bookings are still found by ID.
+ */
+public class BookingRepository {
+    private static final int SEGMENT_SHIFT = 12;                 // 4096 bookings per segment
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final int MAX_SEGMENTS = 1 << 15;             // ~134 million bookings
+
+    // Seat type column: 0 = empty slot, otherwise SeatType ordinal + 1.
+    // Written last with release semantics, so a reader that sees it set
+    // also sees every other column of the slot.
+    private static final VarHandle SEAT_TYPES = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final AtomicInteger lastId;      // Highest booking ID handed out so far
+    private final AtomicInteger count;       // Bookings actually stored
+    private final AtomicReferenceArray<Segment> segments;
+
+    // Events by dictionary code, copy-on-write; codes by event identity
+    private final ConcurrentHashMap<Event, Integer> eventCodes = new ConcurrentHashMap<>();
+    private volatile Event[] events = new Event[16];
+
+    // Customer strings shared by all segments; null with an archive, where
+    // each segment has its own so archiving can drop it
+    private final StringDictionary strings;
+
+    // Archive tier, unused when archive is null
+    private final BookingArchive archive;
+    private final int hotSegments;                          // Newest segments always kept on the heap
+    private final AtomicReferenceArray<ByteBuffer> archived;
+    private volatile ExecutorService archiver;             // Started by the first settled segment
+    private int archiveCursor;                              // Next segment to archive, guarded by this
+
+    /**
+     * One column per booking field for SEGMENT_SIZE consecutive IDs
+     */
+    private static final class Segment {
+        final byte[] seatTypes = new byte[SEGMENT_SIZE];
+        final int[] eventCodes = new int[SEGMENT_SIZE];
+        final int[] quantities = new int[SEGMENT_SIZE];
+        final long[] priceMills = new long[SEGMENT_SIZE];
+        final long[] bookingTimes = new long[SEGMENT_SIZE];
+        final int[] nameCodes = new int[SEGMENT_SIZE];
+        final int[] emailCodes = new int[SEGMENT_SIZE];
+        final int[] phoneCodes = new int[SEGMENT_SIZE];
+        final Map<Integer, BigDecimal> otherTotals = new ConcurrentHashMap<>();   // By slot, where priceMills is NOT_MILLS
+        final StringDictionary strings;
+        final AtomicInteger settled = new AtomicInteger();   // Slots stored or abandoned
+
+        Segment(StringDictionary strings) {
+            this.strings = strings;
+        }
+    }
+
+    /**
+     * Store that keeps every booking on the heap
+     */
+    public BookingRepository() {
+        this(null, 0);
+    }
+
+    /**
+     * Store that moves older bookings into an archive
+     * @param hotBookings roughly how many of the newest bookings always stay on the heap
+     */
+    public BookingRepository(BookingArchive archive, int hotBookings) {
+        this.lastId = new AtomicInteger();
+        this.count = new AtomicInteger();
+        this.segments = new AtomicReferenceArray<>(MAX_SEGMENTS);
+        this.archive = archive;
+        this.hotSegments = Math.max(1, (hotBookings + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        this.archived = archive != null ? new AtomicReferenceArray<>(MAX_SEGMENTS) : null;
+        this.strings = archive != null ? null : new StringDictionary();
+    }
+
+    /**
+     * Allocate the next booking ID, build the booking with it and store it
+     * @param factory creates the booking for the allocated ID
+     */
+    public Booking add(IntFunction<Booking> factory) {
+        int id = lastId.incrementAndGet();
+        Booking booking;
+        try {
+            booking = factory.apply(id);
+            store(booking);
+        } catch (RuntimeException | Error e) {
+            abandon(id, 1);
+            throw e;
+        }
+        return booking;
+    }
+
+    /**
+     * Allocate a block of consecutive booking IDs in one step
+     * @return the first ID of the block
+     */
+    public int allocateIds(int count) {
+        return lastId.getAndAdd(count) + 1;
+    }
+
+    /**
+     * Store bookings built with IDs from allocateIds
+     */
+    public void addAll(List<Booking> newBookings) {
+        for (Booking booking : newBookings) {
+            store(booking);
+        }
+    }
+
+    /**
+     * Give up IDs from allocateIds that will never be stored, e.g. because
+     * saving the bookings failed, so their segment can still be archived
+     */
+    public void abandon(int firstId, int count) {
+        for (int id = firstId; id < firstId + count; id++) {
+            int index = slotIndex(id);
+            settle(segmentFor(index >>> SEGMENT_SHIFT));
+        }
+    }
+
+    /**
+     * Store a booking that already has an ID (used when restoring saved data)
+     */
+    public void restore(Booking booking) {
+        lastId.accumulateAndGet(booking.getId(), Math::max);
+        store(booking);
+    }
+
+    /**
+     * Make sure future IDs are handed out above the given ID
+     */
+    public void advanceLastId(int id) {
+        lastId.accumulateAndGet(id, Math::max);
+    }
+
+    /**
+     * Call once restoring is done and before new bookings are added: empty
+     * slots up to the last ID belong to bookings that were never saved and
+     * will not arrive any more
+     */
+    public void finishRestore() {
+        int highest = lastId.get();
+        for (int id = 1; id <= highest; id++) {
+            int segmentIndex = slotIndex(id) >>> SEGMENT_SHIFT;
+            Segment segment = segments.get(segmentIndex);
+            if (segment == null) {
+                id = (segmentIndex + 1) * SEGMENT_SIZE;   // Nothing stored in this segment
+            } else if ((byte) SEAT_TYPES.getAcquire(segment.seatTypes, slotIndex(id) & SEGMENT_MASK) == 0) {
+                settle(segment);
+            }
+        }
+    }
+
+    /**
+     * Get booking by ID, or null if none is stored
+     */
+    public Booking get(int id) {
+        if (id <= 0 || id > lastId.get()) {
+            return null;
+        }
+        int segmentIndex = slotIndex(id) >>> SEGMENT_SHIFT;
+        int slot = slotIndex(id) & SEGMENT_MASK;
+        Segment segment = segments.get(segmentIndex);
+        if (segment != null) {
+            return read(segment, slot, id);
+        }
+        ByteBuffer block = archived != null ? archived.get(segmentIndex) : null;
+        return block == null ? null : readArchived(block, slot, id);
+    }
+
+    /**
+     * Get all stored bookings ordered by ID
+     */
+    public ArrayList<Booking> getAll() {
+        ArrayList<Booking> result = new ArrayList<>(count.get());
+        for (Booking booking : view()) {
+            result.add(booking);
+        }
+        return result;
+    }
+
+    /**
+     * Read-only view of all stored bookings in ID order. Each booking is
+     * rebuilt while iterating, so walking the view never holds more than
+     * one Booking at a time. Its size is only exact while no bookings are
+     * being added.
+     */
+    public Collection<Booking> view() {
+        int highest = lastId.get();
+        return new AbstractCollection<Booking>() {
+            @Override
+            public Iterator<Booking> iterator() {
+                return new Iterator<Booking>() {
+                    private int nextId = 1;
+                    private Booking next = advance();
+
+                    @Override
+                    public boolean hasNext() {
+                        return next != null;
+                    }
+
+                    @Override
+                    public Booking next() {
+                        if (next == null) {
+                            throw new NoSuchElementException();
+                        }
+                        Booking current = next;
+                        next = advance();
+                        return current;
+                    }
+
+                    private Booking advance() {
+                        while (nextId <= highest) {
+                            int segmentIndex = slotIndex(nextId) >>> SEGMENT_SHIFT;
+                            if (segments.get(segmentIndex) == null
+                                    && (archived == null || archived.get(segmentIndex) == null)) {
+                                // Skip the whole missing segment
+                                nextId = (segmentIndex + 1) * SEGMENT_SIZE + 1;
+                                continue;
+                            }
+                            Booking booking = get(nextId++);
+                            if (booking != null) {
+                                return booking;
+                            }
+                        }
+                        return null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return count.get();
+            }
+        };
+    }
+
+    public int size() {
+        return count.get();
+    }
+
+    public int getLastId() {
+        return lastId.get();
+    }
+
+    /** Get number of segments moved to the archive */
+    public synchronized int getArchivedSegmentCount() {
+        int archivedCount = 0;
+        for (int s = 0; archived != null && s < archiveCursor; s++) {
+            if (archived.get(s) != null) {
+                archivedCount++;
+            }
+        }
+        return archivedCount;
+    }
+
+    /**
+     * Move every settled segment older than the hot window into the
+     * archive. Runs in the background on its own; callable directly to
+     * archive right away.
+     */
+    public synchronized void archiveOldSegments() {
+        if (archive == null) {
+            return;
+        }
+        int newestSegment = slotIndex(Math.max(1, lastId.get())) >>> SEGMENT_SHIFT;
+        while (archiveCursor <= newestSegment - hotSegments) {
+            Segment segment = segments.get(archiveCursor);
+            if (segment != null) {
+                if (segment.settled.get() < SEGMENT_SIZE) {
+                    return;   // Still being filled - archive in ID order only
+                }
+                try {
+                    archived.set(archiveCursor, archive.store(encodeSegment(segment)));
+                } catch (IOException e) {
+                    System.out.println("Could not archive bookings: " + e.getMessage());
+                    return;
+                }
+                // Archived copy is visible before the heap copy goes
+                segments.set(archiveCursor, null);
+            }
+            archiveCursor++;
+        }
+    }
+
+    /**
+     * Stop the background archiver
+     */
+    public void close() {
+        if (archiver != null) {
+            archiver.shutdown();
+        }
+    }
+
+    // Column access
+
+    /**
+     * Check that a booking can be stored, so callers can find out before
+     * saving it anywhere else
+     * @throws IllegalArgumentException if it cannot be
+     */
+    public static void checkStorable(Booking booking) {
+        if (booking.getQuantity() < 0) {
+            throw new IllegalArgumentException("Quantity out of range: " + booking.getQuantity());
+        }
+        if (!Booking.hasStorableFields(booking.getCustomerName(), booking.getCustomerEmail(),
+                                       booking.getCustomerPhone())) {
+            throw new IllegalArgumentException("Customer field longer than " + Booking.MAX_FIELD_BYTES + " bytes");
+        }
+    }
+
+    private void store(Booking booking) {
+        int index = slotIndex(booking.getId());
+        int quantity = booking.getQuantity();
+        checkStorable(booking);
+        Segment segment = segmentFor(index >>> SEGMENT_SHIFT);
+        int slot = index & SEGMENT_MASK;
+
+        segment.eventCodes[slot] = eventCode(booking.getEvent());
+        segment.quantities[slot] = quantity;
+        long mills = Booking.toMills(booking.getTotalPrice());
+        segment.priceMills[slot] = mills;
+        if (mills == Booking.NOT_MILLS && booking.getTotalPrice() != null) {
+            segment.otherTotals.put(slot, booking.getTotalPrice());
+        } else {
+            segment.otherTotals.remove(slot);
+        }
+        segment.bookingTimes[slot] = booking.getBookingTimeMillis();
+        segment.nameCodes[slot] = segment.strings.encode(booking.getCustomerName());
+        segment.emailCodes[slot] = segment.strings.encode(booking.getCustomerEmail());
+        segment.phoneCodes[slot] = segment.strings.encode(booking.getCustomerPhone());
+        byte previous = (byte) SEAT_TYPES.getAndSetRelease(segment.seatTypes, slot,
+                (byte) (booking.getSeatType().ordinal() + 1));
+        if (previous == 0) {
+            count.incrementAndGet();
+            settle(segment);
+        }
+    }
+
+    private Booking read(Segment segment, int slot, int id) {
+        byte seatType = (byte) SEAT_TYPES.getAcquire(segment.seatTypes, slot);
+        if (seatType == 0) {
+            return null;
+        }
+        long mills = segment.priceMills[slot];
+        BigDecimal totalPrice = mills != Booking.NOT_MILLS ? BigDecimal.valueOf(mills, Booking.MILLS_SCALE)
+                                                           : segment.otherTotals.get(slot);
+        return rebuild(id, seatType, segment.eventCodes[slot], segment.quantities[slot], totalPrice,
+                       segment.bookingTimes[slot], segment.strings.decode(segment.nameCodes[slot]),
+                       segment.strings.decode(segment.emailCodes[slot]),
+                       segment.strings.decode(segment.phoneCodes[slot]));
+    }
+
+    private Booking rebuild(int id, byte seatType, int eventCode, int quantity, BigDecimal totalPrice,
+                            long bookingTime, String name, String email, String phone) {
+        return new Booking(id, name, email, phone, events[eventCode], SeatType.fromOrdinal(seatType - 1),
+                           quantity, totalPrice, bookingTime);
+    }
+
+    private void settle(Segment segment) {
+        if (segment.settled.incrementAndGet() == SEGMENT_SIZE && archive != null) {
+            startArchiver().execute(this::archiveOldSegments);
+        }
+    }
+
+    private int eventCode(Event event) {
+        Integer code = eventCodes.get(event);
+        if (code != null) {
+            return code;
+        }
+        synchronized (eventCodes) {
+            code = eventCodes.get(event);
+            if (code != null) {
+                return code;
+            }
+            int next = eventCodes.size();
+            Event[] grown = next < events.length ? events : Arrays.copyOf(events, next * 2);
+            grown[next] = event;
+            events = grown;
+            eventCodes.put(event, next);
+            return next;
+        }
+    }
+
+    private Segment segmentFor(int segmentIndex) {
+        if (segmentIndex >= MAX_SEGMENTS) {
+            throw new IllegalStateException("Booking store is full");
+        }
+        Segment segment = segments.get(segmentIndex);
+        if (segment == null) {
+            if (archived != null && archived.get(segmentIndex) != null) {
+                throw new IllegalStateException("Bookings " + (segmentIndex * SEGMENT_SIZE + 1) + " to "
+                        + ((segmentIndex + 1) * SEGMENT_SIZE) + " are archived and read-only");
+            }
+            Segment created = new Segment(strings != null ? strings : new StringDictionary());
+            segment = segments.compareAndSet(segmentIndex, null, created) ? created : segments.get(segmentIndex);
+        }
+        return segment;
+    }
+
+    private ExecutorService startArchiver() {
+        if (archiver == null) {
+            synchronized (segments) {
+                if (archiver == null) {
+                    archiver = Executors.newSingleThreadExecutor(ThreadSupport.daemonThreads("booking-archiver"));
+                }
+            }
+        }
+        return archiver;
+    }
+
+    // Archived segments
+
+    /*
+     * Layout of an archived segment: SEGMENT_SIZE int offsets (-1 = empty
+     * slot), then one record per booking: [seat type][event code][quantity]
+     * [price mills][booking time][null flags][name][email][phone][total],
+     * strings as an unsigned short length and UTF-8 bytes. Bit 0, 1 and 2 of
+     * the null flags mark a null name, email and phone, which have no length.
+     * The total is only there when the price mills are NOT_MILLS, as the
+     * BigDecimal string of a total that is not null; bit 3 marks a null one.
+     */
+    private static final int RECORD_FIXED_SIZE = 1 + 4 + 4 + 8 + 8 + 1;
+
+    private static ByteBuffer encodeSegment(Segment segment) {
+        StringDictionary strings = segment.strings;
+        int size = SEGMENT_SIZE * 4;
+        for (int slot = 0; slot < SEGMENT_SIZE; slot++) {
+            if (segment.seatTypes[slot] != 0) {
+                size += RECORD_FIXED_SIZE + stringSize(strings.bytes(segment.nameCodes[slot]))
+                        + stringSize(strings.bytes(segment.emailCodes[slot]))
+                        + stringSize(strings.bytes(segment.phoneCodes[slot]))
+                        + stringSize(otherTotal(segment, slot));
+            }
+        }
+
+        ByteBuffer block = ByteBuffer.allocate(size);
+        block.position(SEGMENT_SIZE * 4);
+        for (int slot = 0; slot < SEGMENT_SIZE; slot++) {
+            if (segment.seatTypes[slot] == 0) {
+                block.putInt(slot * 4, -1);
+                continue;
+            }
+            block.putInt(slot * 4, block.position());
+            block.put(segment.seatTypes[slot]);
+            block.putInt(segment.eventCodes[slot]);
+            block.putInt(segment.quantities[slot]);
+            block.putLong(segment.priceMills[slot]);
+            block.putLong(segment.bookingTimes[slot]);
+            byte[] name = strings.bytes(segment.nameCodes[slot]);
+            byte[] email = strings.bytes(segment.emailCodes[slot]);
+            byte[] phone = strings.bytes(segment.phoneCodes[slot]);
+            byte[] total = otherTotal(segment, slot);
+            boolean noTotal = segment.priceMills[slot] == Booking.NOT_MILLS && total == null;
+            block.put((byte) ((name == null ? 1 : 0) | (email == null ? 2 : 0) | (phone == null ? 4 : 0)
+                              | (noTotal ? 8 : 0)));
+            putString(block, name);
+            putString(block, email);
+            putString(block, phone);
+            putString(block, total);
+        }
+        block.flip();
+        return block;
+    }
+
+    private Booking readArchived(ByteBuffer block, int slot, int id) {
+        int position = block.getInt(slot * 4);
+        if (position < 0) {
+            return null;
+        }
+        byte seatType = block.get(position);
+        int eventCode = block.getInt(position + 1);
+        int quantity = block.getInt(position + 5);
+        long mills = block.getLong(position + 9);
+        long bookingTime = block.getLong(position + 17);
+        int nulls = block.get(position + 25);
+        int[] cursor = {position + RECORD_FIXED_SIZE};
+        String name = (nulls & 1) != 0 ? null : getString(block, cursor);
+        String email = (nulls & 2) != 0 ? null : getString(block, cursor);
+        String phone = (nulls & 4) != 0 ? null : getString(block, cursor);
+        BigDecimal totalPrice;
+        if (mills != Booking.NOT_MILLS) {
+            totalPrice = BigDecimal.valueOf(mills, Booking.MILLS_SCALE);
+        } else {
+            totalPrice = (nulls & 8) != 0 ? null : new BigDecimal(getString(block, cursor));
+        }
+        return rebuild(id, seatType, eventCode, quantity, totalPrice, bookingTime, name, email, phone);
+    }
+
+    // Total of a booking not priced in mills, as the bytes of its BigDecimal string
+    private static byte[] otherTotal(Segment segment, int slot) {
+        BigDecimal total = segment.otherTotals.get(slot);
+        return total != null ? total.toString().getBytes(StandardCharsets.US_ASCII) : null;
+    }
+
+    private static int stringSize(byte[] bytes) {
+        return bytes == null ? 0 : 2 + bytes.length;
+    }
+
+    // Null strings are only marked in the record's null flags
+    private static void putString(ByteBuffer block, byte[] bytes) {
+        if (bytes != null) {
+            block.putShort((short) bytes.length);
+            block.put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer block, int[] cursor) {
+        int length = block.getShort(cursor[0]) & 0xFFFF;
+        cursor[0] += 2;
+        byte[] bytes = new byte[length];
+        block.get(cursor[0], bytes);
+        cursor[0] += bytes.length;
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Booking IDs start at 1, slots start at 0
+    private static int slotIndex(int id) {
+        return id - 1;
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Booking request for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ * One line of a batch passed to BookingController.createBookings
+ */
+public class BookingRequest {
+    private final String customerName;
+    private final String customerEmail;
+    private final String customerPhone;
+    private final int eventId;
+    private final SeatType seatType;
+    private final int quantity;
+
+    public BookingRequest(String customerName, String customerEmail, String customerPhone,
+                          int eventId, SeatType seatType, int quantity) {
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+        this.customerPhone = customerPhone;
+        this.eventId = eventId;
+        this.seatType = seatType;
+        this.quantity = quantity;
+    }
+
+    // Getters
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public String getCustomerPhone() {
+        return customerPhone;
+    }
+
+    public int getEventId() {
+        return eventId;
+    }
+
+    public SeatType getSeatType() {
+        return seatType;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    @Override
+    public String toString() {
+        return quantity + " x " + seatType + " for event #" + eventId + " (" + customerName + ")";
+    }
+}
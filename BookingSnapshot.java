@@ -0,0 +1,241 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Booking snapshot file for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * A snapshot holds the complete catalog and booking state at one point in
+ * time, so the journal behind it can be emptied. Startup then loads one
+ * compact file instead of replaying the whole booking history.
+ *
+ * File layout: [magic][version][last booking ID][event count][events]
+ * [booking count][bookings][CRC32 of everything before it].
+ * Snapshots are written to a temporary file and renamed into place,
+ * so a crash while writing leaves the previous snapshot untouched.
+ */
+public class BookingSnapshot {
+    private static final int MAGIC = 0x4D545331;   // "MTS1"
+    // 2: available seats per seat type, 3: booking time in epoch millis, 4: booking total
+    private static final int VERSION = 4;
+    private static final int OLDEST_READABLE_VERSION = 2;
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private BookingSnapshot() {
+    }
+
+    /**
+     * Write a snapshot of the given events and bookings
+     * @param lastBookingId highest booking ID handed out when the snapshot was taken
+     */
+    public static void write(Path file, List<Event> events, Collection<Booking> bookings, int lastBookingId) throws IOException {
+        write(file, events, bookings, lastBookingId, Collections.emptyMap());
+    }
+
+    /**
+     * Write a snapshot of the given events and bookings, counting seats
+     * that are only held as available since holds are not saved
+     * @param heldSeats seats held per event, indexed by seat type ordinal
+     */
+    public static void write(Path file, List<Event> events, Collection<Booking> bookings, int lastBookingId,
+                             Map<Event, int[]> heldSeats) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CheckedOutputStream checked = new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), OUTPUT_BUFFER_SIZE), new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(lastBookingId);
+
+            out.writeInt(events.size());
+            for (Event event : events) {
+                out.writeInt(event.getId());
+                writeString(out, event.getName());
+                writeString(out, event.getDate());
+                writeString(out, event.getVenue());
+                writeString(out, event.getDescription());
+                writeString(out, event.getBasePrice().toPlainString());
+                out.writeInt(event.getTotalSeats());
+                out.writeByte(SeatType.count());
+                int[] held = heldSeats.get(event);
+                for (SeatType seatType : SeatType.all()) {
+                    int available = event.getAvailableSeats(seatType);
+                    out.writeInt(held != null ? available + held[seatType.ordinal()] : available);
+                }
+                writeString(out, event.getImagePath());
+            }
+
+            out.writeInt(bookings.size());
+            for (Booking booking : bookings) {
+                out.writeInt(booking.getId());
+                out.writeInt(booking.getEvent().getId());
+                out.writeInt(booking.getQuantity());
+                writeString(out, booking.getCustomerName());
+                writeString(out, booking.getCustomerEmail());
+                writeString(out, booking.getCustomerPhone());
+                writeString(out, booking.getSeatType().getLabel());
+                out.writeLong(booking.getBookingTimeMillis());
+                writeTotal(out, booking.getTotalPrice());
+            }
+
+            // The checksum itself is not part of the checksummed data
+            long checksum = checked.getChecksum().getValue();
+            out.writeInt((int) checksum);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Load a snapshot through a memory-mapped view of the file
+     * @param eventSink receives each event, with its available seats already set
+     * @param events resolves event IDs once all snapshot events have been delivered
+     * @param bookingSink receives each booking in ID order
+     * @return the last booking ID stored in the snapshot, or 0 if there is no snapshot
+     */
+    public static int load(Path file, Consumer<Event> eventSink, IntFunction<Event> events,
+                           Consumer<Booking> bookingSink) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 16 || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid booking snapshot size: " + file);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            // Verify the checksum before trusting any of the contents
+            ByteBuffer body = mapped.duplicate();
+            body.limit((int) size - 4);
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            if ((int) crc.getValue() != mapped.getInt((int) size - 4)) {
+                throw new IOException("Booking snapshot is corrupt: " + file);
+            }
+
+            ByteBuffer in = mapped.duplicate();
+            in.limit((int) size - 4);
+            if (in.getInt() != MAGIC) {
+                throw new IOException("Not a booking snapshot: " + file);
+            }
+            int version = in.getInt();
+            if (version < OLDEST_READABLE_VERSION || version > VERSION) {
+                throw new IOException("Unsupported booking snapshot version " + version + ": " + file);
+            }
+            int lastBookingId = in.getInt();
+
+            int eventCount = in.getInt();
+            for (int i = 0; i < eventCount; i++) {
+                int id = in.getInt();
+                String name = readString(in);
+                String date = readString(in);
+                String venue = readString(in);
+                String description = readString(in);
+                BigDecimal basePrice = new BigDecimal(readString(in));
+                int totalSeats = in.getInt();
+                int seatTypeCount = in.get();
+                if (seatTypeCount != SeatType.count()) {
+                    throw new IOException("Booking snapshot has " + seatTypeCount + " seat types, expected "
+                            + SeatType.count() + ": " + file);
+                }
+                int[] availableSeats = new int[seatTypeCount];
+                for (int s = 0; s < seatTypeCount; s++) {
+                    availableSeats[s] = in.getInt();
+                }
+                String imagePath = readString(in);
+
+                Event event = new Event(id, name, date, venue, description, basePrice, totalSeats, imagePath);
+                for (int s = 0; s < seatTypeCount; s++) {
+                    event.setAvailableSeats(SeatType.fromOrdinal(s), availableSeats[s]);
+                }
+                eventSink.accept(event);
+            }
+
+            int bookingCount = in.getInt();
+            for (int i = 0; i < bookingCount; i++) {
+                int id = in.getInt();
+                int eventId = in.getInt();
+                int quantity = in.getInt();
+                String name = readString(in);
+                String email = readString(in);
+                String phone = readString(in);
+                String seatType = readString(in);
+                long bookingTime = version >= 3 ? in.getLong() : TimestampFormat.parse(readString(in));
+
+                Event event = events.apply(eventId);
+                if (version < 4) {
+                    // Older snapshots priced bookings from the event
+                    if (event != null) {
+                        bookingSink.accept(new Booking(id, name, email, phone, event, seatType, quantity, bookingTime));
+                    }
+                    continue;
+                }
+                BigDecimal totalPrice = readTotal(in);
+                if (event != null) {
+                    SeatType type = SeatType.fromLabel(seatType);
+                    bookingSink.accept(new Booking(id, name, email, phone, event,
+                            type != null ? type : SeatType.STANDARD, quantity, totalPrice, bookingTime));
+                }
+            }
+            return lastBookingId;
+        }
+    }
+
+    // Mills amount, or NOT_MILLS and the total as a string, empty for none
+    private static void writeTotal(DataOutputStream out, BigDecimal totalPrice) throws IOException {
+        long mills = Booking.toMills(totalPrice);
+        out.writeLong(mills);
+        if (mills == Booking.NOT_MILLS) {
+            writeString(out, totalPrice != null ? totalPrice.toString() : null);
+        }
+    }
+
+    private static BigDecimal readTotal(ByteBuffer in) {
+        long mills = in.getLong();
+        if (mills != Booking.NOT_MILLS) {
+            return BigDecimal.valueOf(mills, Booking.MILLS_SCALE);
+        }
+        String total = readString(in);
+        return total.isEmpty() ? null : new BigDecimal(total);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IOException("Field too long for booking snapshot");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getShort() & 0xFFFF;
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -1,20 +1,29 @@
 
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * Simple Event model for Mini Ticket System
  * Academic project for BIT 4043 OOP course
  */
 public class Event {
+    public static final long NO_DATE = Long.MIN_VALUE;
+
     private int id;
     private String name;
     private String date;
+    private long epochDay;         // Same date as days since 1970-01-01, or NO_DATE if it does not parse
     private String venue;
     private String description;
     private BigDecimal basePrice;
+    private long basePriceCents;   // Same price as whole cents, or -1 if it is not a plain 2-decimal amount
+    private long[] seatPriceMills; // Price of one seat per SeatType ordinal, in mills, or -1 entries
     private int totalSeats;
-    private int availableSeats;
+    private int[] seatCapacity;    // Seats per SeatType ordinal
+    private final AtomicIntegerArray availableSeats; // CAS counters per SeatType ordinal
     private String imagePath; // Path to event image
 
     // Constructor
@@ -22,12 +31,15 @@ public class Event {
                  BigDecimal basePrice, int totalSeats, String imagePath) {
         this.id = id;
         this.name = name;
-        this.date = date;
+        setDate(date);
         this.venue = venue;
         this.description = description;
-        this.basePrice = basePrice;
-        this.totalSeats = totalSeats;
-        this.availableSeats = totalSeats;
+        setBasePrice(basePrice);
+        this.availableSeats = new AtomicIntegerArray(SeatType.count());
+        setTotalSeats(totalSeats);
+        for (int i = 0; i < seatCapacity.length; i++) {
+            availableSeats.set(i, seatCapacity[i]);
+        }
         this.imagePath = imagePath;
     }
 
@@ -54,6 +66,27 @@ public class Event {
 
     public void setDate(String date) {
         this.date = date;
+        this.epochDay = parseEpochDay(date);
+    }
+
+    /** Get event date as days since 1970-01-01, or NO_DATE */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Parse a yyyy-MM-dd date into days since 1970-01-01
+     * @return the epoch day, or NO_DATE if the text is not such a date
+     */
+    public static long parseEpochDay(String date) {
+        if (date == null) {
+            return NO_DATE;
+        }
+        try {
+            return LocalDate.parse(date.trim()).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return NO_DATE;
+        }
     }
 
     public String getVenue() {
@@ -78,22 +111,77 @@ public class Event {
 
     public void setBasePrice(BigDecimal basePrice) {
         this.basePrice = basePrice;
+        this.basePriceCents = toCents(basePrice);
+
+        // Precompute the price of one seat of every type
+        long[] prices = new long[SeatType.count()];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = basePriceCents < 0 ? -1
+                    : basePriceCents * SeatType.fromOrdinal(i).getMultiplierTenths();
+        }
+        this.seatPriceMills = prices;
+    }
+
+    /**
+     * Base price in cents for fixed-point price calculation.
+     * Only set when the BigDecimal price has exactly two decimals,
+     * so results match the BigDecimal calculation digit for digit.
+     * @return price in cents, or -1 if the price cannot be used as cents
+     */
+    public long getBasePriceCents() {
+        return basePriceCents;
+    }
+
+    /**
+     * Price of one seat of the given type in mills (1/1000 of a dollar)
+     * @return the price, or -1 if the base price cannot be used as cents
+     */
+    public long getSeatPriceMills(SeatType seatType) {
+        return seatPriceMills[seatType.ordinal()];
     }
 
     public int getTotalSeats() {
         return totalSeats;
     }
 
+    /**
+     * Set the venue size. Seats are split between seat types by their
+     * share, with Standard taking whatever is left after rounding.
+     * Seats already available are not changed.
+     */
     public void setTotalSeats(int totalSeats) {
         this.totalSeats = totalSeats;
+        this.seatCapacity = splitSeats(totalSeats);
+    }
+
+    public int getSeatCapacity(SeatType seatType) {
+        return seatCapacity[seatType.ordinal()];
     }
 
     public int getAvailableSeats() {
-        return availableSeats;
+        int total = 0;
+        for (int i = 0; i < availableSeats.length(); i++) {
+            total += availableSeats.get(i);
+        }
+        return total;
+    }
+
+    public int getAvailableSeats(SeatType seatType) {
+        return availableSeats.get(seatType.ordinal());
     }
 
+    /**
+     * Set the available seats, split between seat types like the venue
+     */
     public void setAvailableSeats(int availableSeats) {
-        this.availableSeats = availableSeats;
+        int[] split = splitSeats(availableSeats);
+        for (int i = 0; i < split.length; i++) {
+            this.availableSeats.set(i, split[i]);
+        }
+    }
+
+    public void setAvailableSeats(SeatType seatType, int availableSeats) {
+        this.availableSeats.set(seatType.ordinal(), availableSeats);
     }
 
     public String getImagePath() {
@@ -106,13 +194,96 @@ public class Event {
 
     // Business methods
     public boolean hasAvailableSeats(int requestedQuantity) {
-        return availableSeats >= requestedQuantity;
+        return getAvailableSeats() >= requestedQuantity;
+    }
+
+    public boolean hasAvailableSeats(SeatType seatType, int requestedQuantity) {
+        return availableSeats.get(seatType.ordinal()) >= requestedQuantity;
+    }
+
+    /**
+     * Atomically reserve seats of one type without taking a lock.
+     * The check and the decrement happen in a single compare-and-set,
+     * so concurrent callers can never push the count below zero.
+     * Each seat type has its own counter and sells out on its own.
+     * @return true if the seats were reserved, false if not enough were left
+     */
+    public boolean tryReserve(SeatType seatType, int quantity) {
+        if (quantity <= 0) {
+            return false;
+        }
+        int slot = seatType.ordinal();
+        while (true) {
+            int current = availableSeats.get(slot);
+            if (current < quantity) {
+                return false;
+            }
+            if (availableSeats.compareAndSet(slot, current, current - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserve seats of several types at once, all or nothing.
+     * Each type is taken with a single compare-and-set; if a later type
+     * is short, the types already taken are given back.
+     * @param quantities seats wanted per SeatType ordinal
+     * @return true if every type was reserved, false if nothing was
+     */
+    public boolean tryReserve(int[] quantities) {
+        for (int slot = 0; slot < quantities.length; slot++) {
+            if (quantities[slot] < 0) {
+                return false;
+            }
+        }
+        for (int slot = 0; slot < quantities.length; slot++) {
+            if (quantities[slot] > 0 && !tryReserve(SeatType.fromOrdinal(slot), quantities[slot])) {
+                for (int undo = 0; undo < slot; undo++) {
+                    releaseSeats(SeatType.fromOrdinal(undo), quantities[undo]);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return previously reserved seats of one type to the pool
+     */
+    public void releaseSeats(SeatType seatType, int quantity) {
+        if (quantity > 0) {
+            availableSeats.addAndGet(seatType.ordinal(), quantity);
+        }
+    }
+
+    /**
+     * Book Standard seats, same as tryReserve(SeatType.STANDARD, quantity)
+     * @return false if not enough Standard seats are left; none are booked then
+     */
+    public boolean bookSeats(int quantity) {
+        return tryReserve(SeatType.STANDARD, quantity);
+    }
+
+    private static int[] splitSeats(int seats) {
+        int[] split = new int[SeatType.count()];
+        int remaining = seats;
+        for (int i = 0; i < split.length; i++) {
+            SeatType type = SeatType.fromOrdinal(i);
+            if (type != SeatType.STANDARD) {
+                split[i] = (int) ((long) seats * type.getSeatSharePercent() / 100);
+                remaining -= split[i];
+            }
+        }
+        split[SeatType.STANDARD.ordinal()] = remaining;
+        return split;
     }
 
-    public void bookSeats(int quantity) {
-        if (hasAvailableSeats(quantity)) {
-            availableSeats -= quantity;
+    private static long toCents(BigDecimal price) {
+        if (price == null || price.scale() != 2 || price.signum() < 0 || price.precision() > 15) {
+            return -1;
         }
+        return price.unscaledValue().longValue();
     }
 
     @Override
@@ -0,0 +1,132 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Event date and venue index for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Keeps events sorted by their epoch day, once for the whole catalog and
+ * once per venue, so "events this weekend" or "events at City Arena next
+ * month" is a range of a sorted map: O(log n + k) instead of parsing every
+ * event's date. Venues are matched ignoring case and surrounding spaces.
+ * Events whose date does not parse are only found by venue.
+ */
+public class EventCalendarIndex {
+    private final TreeMap<Long, List<Event>> byDay = new TreeMap<>();
+    private final Map<String, TreeMap<Long, List<Event>>> byVenue = new HashMap<>();
+    private final Map<Integer, Indexed> byId = new HashMap<>();   // Where each event was filed
+
+    /**
+     * Keys an event was filed under, so it can be removed after its
+     * fields changed
+     */
+    private static final class Indexed {
+        final Event event;
+        final long epochDay;
+        final String venueKey;
+
+        Indexed(Event event) {
+            this.event = event;
+            this.epochDay = event.getEpochDay();
+            this.venueKey = venueKey(event.getVenue());
+        }
+    }
+
+    /**
+     * Index an event, replacing what was indexed for its ID before
+     */
+    public synchronized void put(Event event) {
+        remove(event.getId());
+        Indexed indexed = new Indexed(event);
+        byId.put(event.getId(), indexed);
+        if (indexed.epochDay != Event.NO_DATE) {
+            byDay.computeIfAbsent(indexed.epochDay, day -> new ArrayList<>(1)).add(event);
+        }
+        byVenue.computeIfAbsent(indexed.venueKey, venue -> new TreeMap<>())
+               .computeIfAbsent(indexed.epochDay, day -> new ArrayList<>(1)).add(event);
+    }
+
+    /**
+     * Remove an event from the index
+     */
+    public synchronized void remove(int eventId) {
+        Indexed indexed = byId.remove(eventId);
+        if (indexed == null) {
+            return;
+        }
+        if (indexed.epochDay != Event.NO_DATE) {
+            removeFrom(byDay, indexed.epochDay, indexed.event);
+        }
+        TreeMap<Long, List<Event>> venueDays = byVenue.get(indexed.venueKey);
+        removeFrom(venueDays, indexed.epochDay, indexed.event);
+        if (venueDays.isEmpty()) {
+            byVenue.remove(indexed.venueKey);
+        }
+    }
+
+    /**
+     * Get events dated from fromDay to toDay, both inclusive, by date
+     */
+    public synchronized List<Event> between(long fromDay, long toDay) {
+        return collect(byDay, fromDay, toDay);
+    }
+
+    /**
+     * Get all events at a venue, by date; undated events come first
+     */
+    public synchronized List<Event> atVenue(String venue) {
+        TreeMap<Long, List<Event>> venueDays = byVenue.get(venueKey(venue));
+        return venueDays == null ? new ArrayList<>() : flatten(venueDays.values());
+    }
+
+    /**
+     * Get events at a venue dated from fromDay to toDay, both inclusive, by date
+     */
+    public synchronized List<Event> atVenueBetween(String venue, long fromDay, long toDay) {
+        TreeMap<Long, List<Event>> venueDays = byVenue.get(venueKey(venue));
+        return venueDays == null ? new ArrayList<>() : collect(venueDays, fromDay, toDay);
+    }
+
+    /** Get number of distinct venues */
+    public synchronized int getVenueCount() {
+        return byVenue.size();
+    }
+
+    // Index internals
+
+    private static String venueKey(String venue) {
+        return venue == null ? "" : venue.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<Event> collect(TreeMap<Long, List<Event>> days, long fromDay, long toDay) {
+        // NO_DATE is the lowest key, keep undated events out of every range
+        long from = Math.max(fromDay, Event.NO_DATE + 1);
+        if (from > toDay) {
+            return new ArrayList<>();
+        }
+        NavigableMap<Long, List<Event>> range = days.subMap(from, true, toDay, true);
+        return flatten(range.values());
+    }
+
+    private static List<Event> flatten(Collection<List<Event>> dayLists) {
+        List<Event> events = new ArrayList<>();
+        for (List<Event> day : dayLists) {
+            events.addAll(day);
+        }
+        return events;
+    }
+
+    private static void removeFrom(TreeMap<Long, List<Event>> days, long epochDay, Event event) {
+        List<Event> day = days.get(epochDay);
+        day.remove(event);
+        if (day.isEmpty()) {
+            days.remove(epochDay);
+        }
+    }
+}
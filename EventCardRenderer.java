@@ -0,0 +1,276 @@
+import javax.swing.BorderFactory;
+import javax.swing.Box;
+import javax.swing.BoxLayout;
+import javax.swing.Icon;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.JTextArea;
+import javax.swing.ListCellRenderer;
+import javax.swing.SwingUtilities;
+import javax.swing.border.Border;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+/**
+ * Event card renderer for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Draws one event of the home screen list as a card with its thumbnail,
+ * details, price and a Book Tickets button. The card's components exist
+ * once and are filled in for each visible row in turn, so the number of
+ * events does not change how many components there are. The button is
+ * only drawn; HomePanel finds clicks on it with getBookButtonBounds.
+ */
+public class EventCardRenderer implements ListCellRenderer<Event> {
+    private final int thumbnailWidth;
+    private final int thumbnailHeight;
+    private int hoveredIndex = -1;   // Row whose button the mouse is over
+
+    private final JPanel cell = new JPanel(new BorderLayout());
+    private final JPanel card = new JPanel(new BorderLayout());
+    private final JLabel imageLabel = new JLabel();
+    private final ThumbnailIcon thumbnailIcon = new ThumbnailIcon();
+    private final JLabel nameLabel = new JLabel();
+    private final JTextArea descriptionArea = new JTextArea(2, 30);
+    private final JLabel dateLabel = new JLabel();
+    private final JLabel venueLabel = new JLabel();
+    private final JLabel priceLabel = new JLabel();
+    private final JLabel seatsLabel = new JLabel();
+    private final JButton bookButton = new JButton("Book Tickets");
+
+    private final Border cardBorder = BorderFactory.createCompoundBorder(
+        BorderFactory.createLineBorder(new Color(220, 221, 225), 1),
+        BorderFactory.createEmptyBorder(8, 8, 8, 8)
+    );
+    private final Border selectedCardBorder = BorderFactory.createCompoundBorder(
+        BorderFactory.createLineBorder(Main.ACCENT_BLUE, 1),
+        BorderFactory.createEmptyBorder(8, 8, 8, 8)
+    );
+    private final Border placeholderBorder = BorderFactory.createLineBorder(new Color(200, 200, 200), 1);
+
+    public EventCardRenderer(int thumbnailWidth, int thumbnailHeight) {
+        this.thumbnailWidth = thumbnailWidth;
+        this.thumbnailHeight = thumbnailHeight;
+        buildCard();
+    }
+
+    @Override
+    public Component getListCellRendererComponent(JList<? extends Event> list, Event event, int index,
+                                                  boolean isSelected, boolean cellHasFocus) {
+        card.setBorder(isSelected ? selectedCardBorder : cardBorder);
+        nameLabel.setText(event.getName());
+        descriptionArea.setText(event.getDescription());
+        dateLabel.setText("📅 " + event.getDate());
+        venueLabel.setText("📍 " + event.getVenue());
+        priceLabel.setText("Starting from: $" + event.getBasePrice());
+        seatsLabel.setText(event.getAvailableSeats() + " seats available");
+        bookButton.setBackground(index == hoveredIndex ? Main.PRIMARY_BLUE : Main.ACCENT_BLUE);
+
+        // Cached thumbnails show straight away, others load in the background and repaint the list
+        BufferedImage thumbnail = ImageService.shared().getThumbnail(event.getImagePath(),
+                thumbnailWidth, thumbnailHeight, loaded -> {
+                    if (loaded != null) {
+                        list.repaint();
+                    }
+                });
+        if (thumbnail != null) {
+            showThumbnail(thumbnail);
+        } else {
+            showPlaceholder(event.getName());
+        }
+        return cell;
+    }
+
+    /**
+     * Set the row whose button is drawn as hovered, -1 for none
+     */
+    public void setHoveredIndex(int index) {
+        hoveredIndex = index;
+    }
+
+    public int getHoveredIndex() {
+        return hoveredIndex;
+    }
+
+    /**
+     * Get where the Book Tickets button of a row is drawn, in list coordinates
+     * @return the button bounds, or null if there is no such row
+     */
+    public Rectangle getBookButtonBounds(JList<Event> list, int index) {
+        Rectangle cellBounds = list.getCellBounds(index, index);
+        if (cellBounds == null) {
+            return null;
+        }
+        getListCellRendererComponent(list, list.getModel().getElementAt(index), index, false, false);
+        cell.setBounds(0, 0, cellBounds.width, cellBounds.height);
+        layOut(cell);
+        Rectangle button = SwingUtilities.convertRectangle(bookButton.getParent(), bookButton.getBounds(), cell);
+        button.translate(cellBounds.x, cellBounds.y);
+        return button;
+    }
+
+    // Same layout as the event cards HomePanel used to build for every event
+    private void buildCard() {
+        cell.setBackground(Color.WHITE);
+        cell.setBorder(BorderFactory.createEmptyBorder(0, 20, 15, 20));
+        card.setBackground(Main.CARD_WHITE);
+        cell.add(card, BorderLayout.CENTER);
+
+        // Image panel
+        JPanel imagePanel = new JPanel(new BorderLayout());
+        imagePanel.setPreferredSize(new Dimension(200, 220));
+        imagePanel.setBackground(new Color(245, 245, 245));
+        imagePanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        imageLabel.setHorizontalAlignment(JLabel.CENTER);
+        imageLabel.setVerticalAlignment(JLabel.CENTER);
+        imageLabel.setBackground(new Color(230, 230, 230));
+        imagePanel.add(imageLabel, BorderLayout.CENTER);
+        card.add(imagePanel, BorderLayout.WEST);
+
+        // Content panel (details + button)
+        JPanel contentPanel = new JPanel(new BorderLayout());
+        contentPanel.setBackground(Main.CARD_WHITE);
+        contentPanel.setBorder(BorderFactory.createEmptyBorder(25, 25, 25, 25));
+
+        JPanel detailsPanel = new JPanel();
+        detailsPanel.setLayout(new BoxLayout(detailsPanel, BoxLayout.Y_AXIS));
+        detailsPanel.setBackground(Main.CARD_WHITE);
+
+        nameLabel.setFont(new Font("Segoe UI", Font.BOLD, 22));
+        nameLabel.setForeground(Main.TEXT_DARK);
+        nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+
+        // Plain wrapped text rather than an HTML label, which would be parsed again on every paint
+        descriptionArea.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        descriptionArea.setForeground(Main.TEXT_LIGHT);
+        descriptionArea.setLineWrap(true);
+        descriptionArea.setWrapStyleWord(true);
+        descriptionArea.setEditable(false);
+        descriptionArea.setOpaque(false);
+        descriptionArea.setBorder(null);
+        descriptionArea.setAlignmentX(Component.LEFT_ALIGNMENT);
+
+        dateLabel.setFont(new Font("Segoe UI", Font.BOLD, 15));
+        dateLabel.setForeground(Main.PRIMARY_BLUE);
+        dateLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+
+        venueLabel.setFont(new Font("Segoe UI", Font.BOLD, 15));
+        venueLabel.setForeground(Main.PRIMARY_BLUE);
+        venueLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+
+        // Title → Description → Date → Venue
+        detailsPanel.add(nameLabel);
+        detailsPanel.add(Box.createVerticalStrut(5));
+        detailsPanel.add(descriptionArea);
+        detailsPanel.add(Box.createVerticalStrut(8));
+        detailsPanel.add(dateLabel);
+        detailsPanel.add(Box.createVerticalStrut(5));
+        detailsPanel.add(venueLabel);
+        detailsPanel.add(Box.createVerticalGlue());
+
+        // Price above the button
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.setLayout(new BoxLayout(buttonPanel, BoxLayout.Y_AXIS));
+        buttonPanel.setBackground(Main.CARD_WHITE);
+        buttonPanel.setBorder(BorderFactory.createEmptyBorder(5, 0, 0, 0));
+
+        JPanel pricePanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 0, 0));
+        pricePanel.setBackground(Main.CARD_WHITE);
+        pricePanel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 40));
+
+        JPanel priceInfoPanel = new JPanel();
+        priceInfoPanel.setLayout(new BoxLayout(priceInfoPanel, BoxLayout.Y_AXIS));
+        priceInfoPanel.setBackground(Main.CARD_WHITE);
+
+        priceLabel.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        priceLabel.setForeground(Main.SUCCESS_GREEN);
+        priceLabel.setAlignmentX(Component.RIGHT_ALIGNMENT);
+
+        seatsLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        seatsLabel.setForeground(Main.TEXT_LIGHT);
+        seatsLabel.setAlignmentX(Component.RIGHT_ALIGNMENT);
+
+        priceInfoPanel.add(priceLabel);
+        priceInfoPanel.add(seatsLabel);
+        pricePanel.add(priceInfoPanel);
+
+        JPanel bookButtonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        bookButtonPanel.setBackground(Main.CARD_WHITE);
+
+        bookButton.setPreferredSize(new Dimension(160, 50));
+        bookButton.setForeground(Color.WHITE);
+        bookButton.setFont(new Font("Segoe UI", Font.BOLD, 15));
+        bookButton.setFocusPainted(false);
+        bookButton.setOpaque(true);
+        bookButton.setBorderPainted(false);
+        bookButton.setBorder(BorderFactory.createEmptyBorder(15, 30, 15, 30));
+        bookButtonPanel.add(bookButton);
+
+        buttonPanel.add(pricePanel);
+        buttonPanel.add(Box.createVerticalStrut(3));
+        buttonPanel.add(bookButtonPanel);
+
+        contentPanel.add(detailsPanel, BorderLayout.CENTER);
+        contentPanel.add(buttonPanel, BorderLayout.SOUTH);
+        card.add(contentPanel, BorderLayout.CENTER);
+    }
+
+    // Lay out the card directly; validate() skips it until the list has been painted once
+    private static void layOut(Container container) {
+        container.doLayout();
+        for (Component child : container.getComponents()) {
+            if (child instanceof Container) {
+                layOut((Container) child);
+            }
+        }
+    }
+
+    private void showThumbnail(BufferedImage thumbnail) {
+        thumbnailIcon.image = thumbnail;
+        imageLabel.setText(null);
+        imageLabel.setIcon(thumbnailIcon);
+        imageLabel.setOpaque(false);
+        imageLabel.setBorder(null);
+    }
+
+    // Gray box with the event name while the thumbnail loads or when there is none
+    private void showPlaceholder(String eventName) {
+        imageLabel.setIcon(null);
+        imageLabel.setText("🎭 " + eventName);
+        imageLabel.setOpaque(true);
+        imageLabel.setBorder(placeholderBorder);
+    }
+
+    /**
+     * Icon drawing whichever thumbnail the current row has, so no icon is
+     * created per row
+     */
+    private static final class ThumbnailIcon implements Icon {
+        BufferedImage image;
+
+        @Override
+        public void paintIcon(Component c, Graphics g, int x, int y) {
+            g.drawImage(image, x, y, null);
+        }
+
+        @Override
+        public int getIconWidth() {
+            return image.getWidth();
+        }
+
+        @Override
+        public int getIconHeight() {
+            return image.getHeight();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+/**
+ * Event change listener interface for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Told by BookingController about every change to its catalog, so screens
+ * can update only what changed. Calls come on the thread that made the
+ * change, which may be a booking thread or the seat hold expiry thread,
+ * never holding a lock a screen could wait on; Swing screens hand them on
+ * to the Event Dispatch Thread. They must return quickly.
+ */
+public interface EventChangeListener {
+    /**
+     * An event was added to the catalog; a replaced event is first removed
+     */
+    void eventAdded(Event event);
+
+    /**
+     * An event was removed from the catalog
+     */
+    void eventRemoved(Event event);
+
+    /**
+     * Seats of an event were booked, held or given back
+     */
+    void seatsChanged(Event event);
+}
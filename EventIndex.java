@@ -0,0 +1,254 @@
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Event lookup index for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ * Open-addressing hash map from primitive int event ID to Event,
+ * so lookups do not box the key or scan the event list.
+ * Lookups are optimistic reads that take no lock unless a change got in
+ * their way; changes take the write lock.
+ * Each event can also carry its position in the caller's event list, so
+ * the caller can find it there without scanning the list.
+ */
+public class EventIndex {
+    private static final int EMPTY = 0;          // Event IDs start at 1, 0 marks a free slot
+    private static final float MAX_LOAD = 0.5f;  // Keep probe sequences short
+
+    private final StampedLock lock = new StampedLock();
+    private int[] keys;
+    private Event[] values;
+    private int[] positions;
+    private int size;
+    private int mask;
+
+    public EventIndex() {
+        this(16);
+    }
+
+    public EventIndex(int expectedSize) {
+        int capacity = tableSizeFor(Math.max(4, (int) (expectedSize / MAX_LOAD) + 1));
+        keys = new int[capacity];
+        values = new Event[capacity];
+        positions = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Get event by ID, or null if it is not indexed. Safe to call while
+     * another thread changes the index.
+     */
+    public Event get(int eventId) {
+        if (eventId == EMPTY) {
+            return null;
+        }
+        long stamp = lock.tryOptimisticRead();
+        Event event = find(keys, values, eventId);
+        if (lock.validate(stamp)) {
+            return event;
+        }
+        stamp = lock.readLock();
+        try {
+            return find(keys, values, eventId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // May run while the table changes, so it never trusts what it reads to stay in bounds or end
+    private static Event find(int[] keys, Event[] values, int eventId) {
+        // A resize may have replaced one array but not yet the other
+        if (keys.length != values.length) {
+            return null;
+        }
+        int mask = keys.length - 1;
+        int slot = hash(eventId) & mask;
+        for (int probes = 0; probes < keys.length; probes++) {
+            int key = keys[slot];
+            if (key == eventId) {
+                return values[slot];
+            }
+            if (key == EMPTY) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Get the position stored with an event, or -1 if it is not indexed
+     */
+    public int getPosition(int eventId) {
+        if (eventId == EMPTY) {
+            return -1;
+        }
+        long stamp = lock.readLock();
+        try {
+            int slot = hash(eventId) & mask;
+            while (true) {
+                int key = keys[slot];
+                if (key == eventId) {
+                    return positions[slot];
+                }
+                if (key == EMPTY) {
+                    return -1;
+                }
+                slot = (slot + 1) & mask;
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Add or replace an event, returns the previous event with the same ID
+     */
+    public Event put(Event event) {
+        return put(event, -1);
+    }
+
+    /**
+     * Add or replace an event with its position in the caller's event
+     * list, returns the previous event with the same ID
+     */
+    public Event put(Event event, int position) {
+        int eventId = event.getId();
+        if (eventId == EMPTY) {
+            throw new IllegalArgumentException("Event ID 0 is reserved");
+        }
+        long stamp = lock.writeLock();
+        try {
+            return putLocked(eventId, event, position);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private Event putLocked(int eventId, Event event, int position) {
+        if (size + 1 > keys.length * MAX_LOAD) {
+            resize(keys.length * 2);
+        }
+        int slot = hash(eventId) & mask;
+        while (true) {
+            int key = keys[slot];
+            if (key == eventId) {
+                Event previous = values[slot];
+                values[slot] = event;
+                positions[slot] = position;
+                return previous;
+            }
+            if (key == EMPTY) {
+                keys[slot] = eventId;
+                values[slot] = event;
+                positions[slot] = position;
+                size++;
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Remove an event by ID, returns the removed event or null
+     */
+    public Event remove(int eventId) {
+        if (eventId == EMPTY) {
+            return null;
+        }
+        long stamp = lock.writeLock();
+        try {
+            return removeLocked(eventId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private Event removeLocked(int eventId) {
+        int slot = hash(eventId) & mask;
+        while (true) {
+            int key = keys[slot];
+            if (key == EMPTY) {
+                return null;
+            }
+            if (key == eventId) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        Event removed = values[slot];
+        size--;
+
+        // Backward-shift deletion keeps probe chains intact without tombstones
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            // Move the entry if its home slot is not between the hole and its position
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                positions[hole] = positions[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        values[hole] = null;
+        return removed;
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.fill(keys, EMPTY);
+            Arrays.fill(values, null);
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void resize(int newCapacity) {
+        int[] oldKeys = keys;
+        Event[] oldValues = values;
+        int[] oldPositions = positions;
+        keys = new int[newCapacity];
+        values = new Event[newCapacity];
+        positions = new int[newCapacity];
+        mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != EMPTY) {
+                int slot = hash(key) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+                positions[slot] = oldPositions[i];
+            }
+        }
+    }
+
+    // Fibonacci hashing spreads sequential IDs across the table
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int n) {
+        int capacity = Integer.highestOneBit(n - 1) << 1;
+        return Math.max(capacity, 4);
+    }
+}
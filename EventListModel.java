@@ -0,0 +1,122 @@
+import javax.swing.AbstractListModel;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Event list model for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Holds the events shown on the home screen for a JList. The list is
+ * used as given, not copied, so showing a snapshot from the controller
+ * costs nothing however many events it has. Single changes are passed on
+ * to the list as single rows, so only those rows are drawn again.
+ */
+public class EventListModel extends AbstractListModel<Event> {
+    private static final long serialVersionUID = 1L;
+
+    private List<Event> events = Collections.emptyList();
+    private Map<Integer, Integer> rows;   // Event ID -> row, built when first needed
+
+    @Override
+    public int getSize() {
+        return events.size();
+    }
+
+    @Override
+    public Event getElementAt(int index) {
+        return events.get(index);
+    }
+
+    /**
+     * Show other events; the list must not change while it is shown
+     */
+    public void setEvents(List<Event> events) {
+        int oldSize = this.events.size();
+        this.events = events;
+        rows = null;
+        if (oldSize > events.size()) {
+            fireIntervalRemoved(this, events.size(), oldSize - 1);
+        }
+        if (oldSize < events.size()) {
+            fireIntervalAdded(this, oldSize, events.size() - 1);
+        }
+        int changed = Math.min(oldSize, events.size());
+        if (changed > 0) {
+            fireContentsChanged(this, 0, changed - 1);
+        }
+    }
+
+    /**
+     * Show the events after one event was added, removed or replaced.
+     * When the new list differs from the shown one by just that event,
+     * only its row is passed on; otherwise the whole list is.
+     * @param events the events to show now
+     */
+    public void catalogChanged(List<Event> events, int eventId) {
+        int oldRow = getRow(eventId);
+        int newRow = rowIn(events, eventId, oldRow);
+        int sizeChange = events.size() - this.events.size();
+        if (oldRow < 0 && newRow >= 0 && sizeChange == 1) {
+            this.events = events;
+            if (rows != null && newRow == events.size() - 1) {
+                rows.put(eventId, newRow);
+            } else {
+                rows = null;
+            }
+            fireIntervalAdded(this, newRow, newRow);
+        } else if (oldRow >= 0 && newRow < 0 && sizeChange == -1) {
+            this.events = events;
+            rows = null;
+            fireIntervalRemoved(this, oldRow, oldRow);
+        } else if (oldRow >= 0 && oldRow == newRow && sizeChange == 0) {
+            this.events = events;
+            fireContentsChanged(this, oldRow, oldRow);
+        } else {
+            setEvents(events);
+        }
+    }
+
+    /**
+     * Draw the row of an event again, e.g. after its seats changed
+     */
+    public void eventChanged(Event event) {
+        int row = getRow(event.getId());
+        if (row >= 0) {
+            fireContentsChanged(this, row, row);
+        }
+    }
+
+    /**
+     * Get the row showing an event
+     * @return the row, or -1 if the event is not shown
+     */
+    public int getRow(int eventId) {
+        if (rows == null) {
+            rows = new HashMap<>(events.size() * 2);
+            for (int row = 0; row < events.size(); row++) {
+                rows.put(events.get(row).getId(), row);
+            }
+        }
+        Integer row = rows.get(eventId);
+        return row != null ? row : -1;
+    }
+
+    // Row of an event in a list; it is usually where it was or, when new, last
+    private static int rowIn(List<Event> events, int eventId, int expectedRow) {
+        if (expectedRow >= 0 && expectedRow < events.size() && events.get(expectedRow).getId() == eventId) {
+            return expectedRow;
+        }
+        int last = events.size() - 1;
+        if (last >= 0 && events.get(last).getId() == eventId) {
+            return last;
+        }
+        for (int row = 0; row < events.size(); row++) {
+            if (events.get(row).getId() == eventId) {
+                return row;
+            }
+        }
+        return -1;
+    }
+}
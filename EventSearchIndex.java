@@ -0,0 +1,311 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Event search index for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Inverted index from the words of each event's name, venue and
+ * description to event IDs. Words are kept in a sorted map, so every word
+ * starting with a prefix is one range of the map; a query matches events
+ * that contain a word starting with each of its words, which is what a
+ * search-as-you-type box needs. Adding, replacing or removing an event
+ * only touches that event's own words.
+ */
+public class EventSearchIndex {
+    private static final int[] NO_IDS = new int[0];
+    private static final int NONE = 0;               // Not a valid event ID
+    private static final int MAX_MERGED_WORDS = 32;  // Prefix ranges up to this size are merged lazily
+
+    private final TreeMap<String, Postings> postings = new TreeMap<>(); // Word -> events containing it
+    private final Map<Integer, String[]> wordsByEvent = new HashMap<>(); // Event ID -> its indexed words
+
+    /**
+     * Index an event, replacing what was indexed for its ID before
+     */
+    public synchronized void put(Event event) {
+        String[] words = words(String.join(" ", text(event.getName()), text(event.getVenue()),
+                                           text(event.getDescription())));
+        // Only words the event gained or lost change, so a common word's long list is not rewritten
+        String[] previous = wordsByEvent.put(event.getId(), words);
+        if (previous != null) {
+            for (String word : previous) {
+                if (!contains(words, words.length, word)) {
+                    removePosting(word, event.getId());
+                }
+            }
+        }
+        for (String word : words) {
+            if (previous == null || !contains(previous, previous.length, word)) {
+                postings.computeIfAbsent(word, w -> new Postings()).add(event.getId());
+            }
+        }
+    }
+
+    /**
+     * Remove an event from the index
+     */
+    public synchronized void remove(int eventId) {
+        String[] words = wordsByEvent.remove(eventId);
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            removePosting(word, eventId);
+        }
+    }
+
+    /**
+     * Find events matching every word of the query as a word prefix
+     * @return matching event IDs in ascending order; empty for a query without words
+     */
+    public int[] search(String query) {
+        return search(query, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Find at most limit events matching every word of the query as a word
+     * prefix, lowest event IDs first. A small limit keeps unselective
+     * queries such as a single typed letter fast.
+     */
+    public synchronized int[] search(String query, int limit) {
+        String[] words = words(query);
+        if (words.length == 0 || limit <= 0) {
+            return NO_IDS;
+        }
+
+        // Start from the word that matches the fewest events
+        List<SortedMap<String, Postings>> ranges = prefixRanges(words);
+        int best = 0;
+        long bestCount = Long.MAX_VALUE;
+        for (int i = 0; i < words.length; i++) {
+            long count = countUpTo(ranges.get(i), bestCount);
+            if (count < bestCount) {
+                best = i;
+                bestCount = count;
+            }
+        }
+        if (bestCount == 0) {
+            return NO_IDS;
+        }
+        // Walk the events of that word in ID order. With only a few words
+        // in its range the posting lists are merged on the fly, so a small
+        // limit stops early; otherwise they are collected in a bit set.
+        Postings[] lists = ranges.get(best).values().toArray(new Postings[0]);
+        int[] candidates = lists.length > MAX_MERGED_WORDS ? union(lists) : null;
+        int[] listPositions = new int[lists.length];
+        int candidateIndex = 0;
+
+        // Keep the candidates that match the other words too. A word that
+        // completes to a single indexed word is checked in its posting list,
+        // any other against the candidate's own words.
+        Postings[] exact = new Postings[words.length];
+        int[] exactPositions = new int[words.length];
+        for (int w = 0; w < words.length; w++) {
+            String first = ranges.get(w).firstKey();
+            if (w != best && first.equals(ranges.get(w).lastKey())) {
+                exact[w] = ranges.get(w).get(first);
+            }
+        }
+
+        int[] result = new int[(int) Math.min(limit, Math.min(bestCount, 16))];
+        int count = 0;
+        while (count < limit) {
+            int id;
+            if (candidates != null) {
+                if (candidateIndex == candidates.length) {
+                    break;
+                }
+                id = candidates[candidateIndex++];
+            } else {
+                id = nextMerged(lists, listPositions);
+                if (id == NONE) {
+                    break;
+                }
+            }
+            boolean match = true;
+            for (int w = 0; match && w < words.length; w++) {
+                if (exact[w] != null) {
+                    exactPositions[w] = exact[w].lowerBound(id, exactPositions[w]);
+                    match = exact[w].contains(id, exactPositions[w]);
+                } else if (w != best) {
+                    match = hasWordStartingWith(id, words[w]);
+                }
+            }
+            if (match) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, (int) Math.min(limit, count * 2L));
+                }
+                result[count++] = id;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /** Get number of distinct indexed words */
+    public synchronized int getWordCount() {
+        return postings.size();
+    }
+
+    // Lower-case words of letters and digits, without duplicates
+    static String[] words(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        String[] words = new String[8];
+        int count = 0;
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String word = text.substring(start, i).toLowerCase(Locale.ROOT);
+                if (!contains(words, count, word)) {
+                    if (count == words.length) {
+                        words = Arrays.copyOf(words, count * 2);
+                    }
+                    words[count++] = word;
+                }
+                start = -1;
+            }
+        }
+        return Arrays.copyOf(words, count);
+    }
+
+    private static String text(String field) {
+        return field != null ? field : "";
+    }
+
+    // Words starting with each prefix, as ranges of the sorted word map
+    private List<SortedMap<String, Postings>> prefixRanges(String[] prefixes) {
+        List<SortedMap<String, Postings>> ranges = new ArrayList<>(prefixes.length);
+        for (String prefix : prefixes) {
+            ranges.add(postings.subMap(prefix, prefix + Character.MAX_VALUE));
+        }
+        return ranges;
+    }
+
+    // Posting count of a range, stopping once it reaches the limit
+    private static long countUpTo(SortedMap<String, Postings> range, long limit) {
+        long count = 0;
+        for (Postings ids : range.values()) {
+            count += ids.size;
+            if (count >= limit) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    // Smallest event ID not yet taken from the lists, NONE when all are used up
+    private static int nextMerged(Postings[] lists, int[] positions) {
+        int id = NONE;
+        for (int l = 0; l < lists.length; l++) {
+            if (positions[l] < lists[l].size && (id == NONE || lists[l].ids[positions[l]] < id)) {
+                id = lists[l].ids[positions[l]];
+            }
+        }
+        for (int l = 0; id != NONE && l < lists.length; l++) {
+            if (positions[l] < lists[l].size && lists[l].ids[positions[l]] == id) {
+                positions[l]++;
+            }
+        }
+        return id;
+    }
+
+    // Union of many posting lists, via a bit set
+    private static int[] union(Postings[] lists) {
+        BitSet union = new BitSet();
+        for (Postings ids : lists) {
+            for (int i = 0; i < ids.size; i++) {
+                union.set(ids.ids[i]);
+            }
+        }
+        return union.stream().toArray();
+    }
+
+    private void removePosting(String word, int eventId) {
+        Postings ids = postings.get(word);
+        ids.remove(eventId);
+        if (ids.size == 0) {
+            postings.remove(word);
+        }
+    }
+
+    private boolean hasWordStartingWith(int eventId, String prefix) {
+        for (String word : wordsByEvent.get(eventId)) {
+            if (word.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean contains(String[] words, int count, String word) {
+        for (int i = 0; i < count; i++) {
+            if (words[i].equals(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sorted event IDs for one word. Events are usually added in ID order,
+     * so adding is mostly an append.
+     */
+    private static final class Postings {
+        int[] ids = new int[2];
+        int size;
+
+        void add(int id) {
+            int position = size > 0 && ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0 && position < size) {
+                return;   // Already there
+            }
+            if (position < 0) {
+                position = -position - 1;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+
+        void remove(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+                size--;
+            }
+        }
+
+        // Position of the first ID not below id, searching forward from a known position
+        int lowerBound(int id, int from) {
+            int low = from;
+            int high = from;
+            int step = 1;
+            while (high < size && ids[high] < id) {
+                low = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            int position = Arrays.binarySearch(ids, low, Math.min(high, size), id);
+            return position >= 0 ? position : -position - 1;
+        }
+
+        boolean contains(int id, int position) {
+            return position < size && ids[position] == id;
+        }
+    }
+}
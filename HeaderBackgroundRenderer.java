@@ -0,0 +1,154 @@
+import javax.swing.JPanel;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Header background renderer for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Paints the header photo with a translucent overlay in the screen's
+ * theme color. The photo is decoded once for the whole application; each
+ * renderer keeps the photo already scaled and covered by its overlay at
+ * the size of its panel, so a repaint is a single copy and the scaling
+ * only happens again when the panel is resized.
+ *
+ * The photo is decoded by ImageService on a loader thread, never on the
+ * EDT; headers show their plain color until it is ready and then paint
+ * again. The full-size photo is only softly kept, as it is needed again
+ * only when a header is resized.
+ */
+public class HeaderBackgroundRenderer {
+    public static final String IMAGE_PATH = "images/header_background.jpg";
+    private static final int OVERLAY_ALPHA = 180;   // 180/255 = ~70% opacity
+
+    // Decoded header photo, shared by every header
+    private static SoftReference<BufferedImage> backgroundImage = new SoftReference<>(null);
+    private static boolean missing;                 // The photo cannot be read
+    private static List<Runnable> waiting;          // Told when the photo being loaded is ready, null if none is
+
+    private final Color background;
+    private final Color overlay;
+    private BufferedImage rendered;                 // Photo and overlay at the last painted size
+    private Runnable onPhotoLoaded = () -> { };
+
+    public HeaderBackgroundRenderer(Color background) {
+        this.background = background;
+        this.overlay = new Color(background.getRed(), background.getGreen(), background.getBlue(), OVERLAY_ALPHA);
+    }
+
+    /**
+     * Create a BorderLayout panel painted by a new renderer
+     */
+    public static JPanel createPanel(Color background) {
+        HeaderBackgroundRenderer renderer = new HeaderBackgroundRenderer(background);
+        JPanel panel = new JPanel(new BorderLayout()) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                renderer.paint(g, getWidth(), getHeight(), getGraphicsConfiguration());
+            }
+        };
+        renderer.onPhotoLoaded = panel::repaint;
+        // Photo and overlay cover the whole panel, so nothing behind it needs painting
+        panel.setOpaque(true);
+        panel.setBackground(background);
+        return panel;
+    }
+
+    /**
+     * Decode the header photo on the calling thread, so headers painted
+     * afterwards show it straight away
+     * @return the photo, or null if it cannot be read
+     */
+    public static BufferedImage loadBackgroundImage() {
+        BufferedImage image = ImageService.loadImage(IMAGE_PATH);
+        synchronized (HeaderBackgroundRenderer.class) {
+            backgroundImage = new SoftReference<>(image);
+            missing = image == null;
+        }
+        return image;
+    }
+
+    /**
+     * Paint the background over width x height, falling back to the plain
+     * background color while the header photo loads or when there is none
+     * @param configuration screen the panel is on, may be null
+     */
+    public void paint(Graphics g, int width, int height, GraphicsConfiguration configuration) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        BufferedImage image = render(width, height, configuration);
+        if (image != null) {
+            g.drawImage(image, 0, 0, null);
+        } else if (rendered != null) {
+            // Resized while the photo is loaded again - stretch the last one meanwhile
+            g.drawImage(rendered, 0, 0, width, height, null);
+        } else {
+            g.setColor(background);
+            g.fillRect(0, 0, width, height);
+        }
+    }
+
+    // Photo and overlay at the given size, rendered again only when the size changed
+    private BufferedImage render(int width, int height, GraphicsConfiguration configuration) {
+        if (rendered != null && rendered.getWidth() == width && rendered.getHeight() == height) {
+            return rendered;
+        }
+        BufferedImage source = getBackgroundImage(onPhotoLoaded);
+        if (source == null) {
+            return null;
+        }
+        BufferedImage image = configuration != null
+                ? configuration.createCompatibleImage(width, height, Transparency.OPAQUE)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(source, 0, 0, width, height, null);
+        g2d.setColor(overlay);
+        g2d.fillRect(0, 0, width, height);
+        g2d.dispose();
+        rendered = image;
+        return image;
+    }
+
+    // The photo if it is decoded; otherwise starts loading it and tells onLoaded when it is ready
+    private static synchronized BufferedImage getBackgroundImage(Runnable onLoaded) {
+        BufferedImage image = backgroundImage.get();
+        if (image != null || missing) {
+            return image;
+        }
+        if (waiting == null) {
+            waiting = new ArrayList<>(2);
+            ImageService.shared().loadImage(IMAGE_PATH, HeaderBackgroundRenderer::backgroundImageLoaded);
+        }
+        if (!waiting.contains(onLoaded)) {
+            waiting.add(onLoaded);
+        }
+        return null;
+    }
+
+    // Runs on the EDT
+    private static void backgroundImageLoaded(BufferedImage image) {
+        List<Runnable> loaded;
+        synchronized (HeaderBackgroundRenderer.class) {
+            backgroundImage = new SoftReference<>(image);
+            missing = image == null;
+            loaded = waiting;
+            waiting = null;
+        }
+        if (image != null) {
+            for (Runnable onLoaded : loaded) {
+                onLoaded.run();
+            }
+        }
+    }
+}
@@ -2,9 +2,17 @@
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.io.File;
-import java.util.ArrayList;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Home Panel for Mini Ticket System
@@ -16,11 +24,45 @@ public class HomePanel extends JPanel {
     private BookingController bookingController;
     private JPanel eventsPanel;
     private JScrollPane scrollPane;
+    private JTextField searchField;
+    private JList<Event> eventList;
+    private EventListModel eventListModel;
+    private EventCardRenderer cardRenderer;
+    private JLabel noResultsLabel;
+
+    // Catalog changes made on any thread, applied to the list together on the EDT
+    private final Queue<Integer> catalogChanges = new ConcurrentLinkedQueue<>();   // IDs of events added or removed
+    private final Map<Integer, Event> seatChanges = new ConcurrentHashMap<>();
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+
+    private static final int THUMBNAIL_WIDTH = 180;
+    private static final int THUMBNAIL_HEIGHT = 120;
 
     public HomePanel(Main mainFrame, BookingController bookingController) {
         this.mainFrame = mainFrame;
         this.bookingController = bookingController;
         initializePanel();
+
+        // Keep the cards up to date as events and seats change, instead of rebuilding the list
+        bookingController.addEventChangeListener(new EventChangeListener() {
+            @Override
+            public void eventAdded(Event event) {
+                catalogChanges.add(event.getId());
+                scheduleUpdate();
+            }
+
+            @Override
+            public void eventRemoved(Event event) {
+                catalogChanges.add(event.getId());
+                scheduleUpdate();
+            }
+
+            @Override
+            public void seatsChanged(Event event) {
+                seatChanges.put(event.getId(), event);
+                scheduleUpdate();
+            }
+        });
     }
 
     private void initializePanel() {
@@ -33,7 +75,7 @@ public class HomePanel extends JPanel {
 
         // Create events panel
         createEventsPanel();
-        add(scrollPane, BorderLayout.CENTER);
+        add(eventsPanel, BorderLayout.CENTER);
 
         // Create footer panel
         JPanel footerPanel = createFooterPanel();
@@ -41,47 +83,8 @@ public class HomePanel extends JPanel {
     }
 
     private JPanel createHeaderPanel() {
-        // Create custom panel with background image support
-        JPanel headerPanel = new JPanel(new BorderLayout()) {
-            private Image backgroundImage;
-
-            {
-                // Try to load background image
-                try {
-                    File bgFile = new File("images/header_background.jpg");
-                    if (bgFile.exists()) {
-                        backgroundImage = Toolkit.getDefaultToolkit().createImage("images/header_background.jpg");
-                    }
-                } catch (Exception e) {
-                    backgroundImage = null;
-                }
-            }
-
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                if (backgroundImage != null) {
-                    // Draw background image scaled to fit
-                    Graphics2D g2d = (Graphics2D) g.create();
-                    g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                    g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-
-                    // Add semi-transparent overlay for better text readability
-                    g2d.setColor(new Color(Main.PRIMARY_DARK.getRed(), Main.PRIMARY_DARK.getGreen(),
-                                         Main.PRIMARY_DARK.getBlue(), 180)); // 180/255 = ~70% opacity
-                    g2d.fillRect(0, 0, getWidth(), getHeight());
-                    g2d.dispose();
-                } else {
-                    // Fallback to solid color background
-                    setBackground(Main.PRIMARY_DARK);
-                }
-            }
-        };
-
-        // Set transparent background so custom painting shows
-        // Check if background image exists
-        boolean hasBackgroundImage = new File("images/header_background.jpg").exists();
-        headerPanel.setOpaque(!hasBackgroundImage);
+        // Header photo with a translucent overlay, shared by every screen
+        JPanel headerPanel = HeaderBackgroundRenderer.createPanel(Main.PRIMARY_DARK);
         headerPanel.setBorder(BorderFactory.createEmptyBorder(30, 30, 30, 30));
 
         // Create centered brand panel with logo and title
@@ -199,229 +202,196 @@ public class HomePanel extends JPanel {
     }
 
     private void createEventsPanel() {
-        eventsPanel = new JPanel();
-        eventsPanel.setLayout(new BoxLayout(eventsPanel, BoxLayout.Y_AXIS));
+        eventsPanel = new JPanel(new BorderLayout());
         eventsPanel.setBackground(Color.WHITE);
-        eventsPanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
 
-        // Add title for events section
+        // Title and search box above the list
+        JPanel topPanel = new JPanel();
+        topPanel.setLayout(new BoxLayout(topPanel, BoxLayout.Y_AXIS));
+        topPanel.setBackground(Color.WHITE);
+        topPanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 0, 20));
+
         JLabel eventsTitle = new JLabel("Available Events");
         eventsTitle.setFont(new Font("Arial", Font.BOLD, 20));
         eventsTitle.setAlignmentX(Component.CENTER_ALIGNMENT);
-        eventsPanel.add(eventsTitle);
-        eventsPanel.add(Box.createVerticalStrut(20));
+        topPanel.add(eventsTitle);
+        topPanel.add(Box.createVerticalStrut(20));
+        topPanel.add(createSearchPanel());
+        topPanel.add(Box.createVerticalStrut(20));
+        eventsPanel.add(topPanel, BorderLayout.NORTH);
+
+        // Event cards are drawn by one renderer, only for the rows in view
+        eventListModel = new EventListModel();
+        cardRenderer = new EventCardRenderer(THUMBNAIL_WIDTH, THUMBNAIL_HEIGHT);
+        eventList = new JList<>(eventListModel);
+        eventList.setCellRenderer(cardRenderer);
+        eventList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        eventList.setBackground(Color.WHITE);
+        // Every card has the same size, so the list never measures rows one by one
+        eventList.setPrototypeCellValue(new Event(0, "Event name", "2025-01-01", "Venue",
+                "Event description", new BigDecimal("100.00"), 1000, null));
+        addEventListHandlers();
+
+        noResultsLabel = new JLabel("No events found.", JLabel.CENTER);
+        noResultsLabel.setFont(new Font("Arial", Font.ITALIC, 14));
+        noResultsLabel.setVerticalAlignment(JLabel.TOP);
 
         // Load events
         refreshEventList();
 
-        scrollPane = new JScrollPane(eventsPanel);
+        scrollPane = new JScrollPane();
+        scrollPane.setViewportView(eventListModel.getSize() > 0 ? eventList : noResultsLabel);
+        scrollPane.getViewport().setBackground(Color.WHITE);
+        scrollPane.setBorder(null);
+        scrollPane.getVerticalScrollBar().setUnitIncrement(16);
         scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
         scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+        eventsPanel.add(scrollPane, BorderLayout.CENTER);
     }
 
-    public void refreshEventList() {
-        // Remove existing event panels (keep title)
-        Component[] components = eventsPanel.getComponents();
-        for (int i = 2; i < components.length; i++) {
-            eventsPanel.remove(components[i]);
-        }
-
-        ArrayList<Event> events = bookingController.getAllEvents();
-
-        for (Event event : events) {
-            JPanel eventPanel = createEventPanel(event);
-            eventsPanel.add(eventPanel);
-            eventsPanel.add(Box.createVerticalStrut(15));
-        }
-
-        eventsPanel.revalidate();
-        eventsPanel.repaint();
-    }
-
-    private JPanel createEventPanel(Event event) {
-        JPanel eventPanel = new JPanel(new BorderLayout());
-        // Beautiful card design with professional styling
-        eventPanel.setBorder(BorderFactory.createCompoundBorder(
-            BorderFactory.createLineBorder(new Color(220, 221, 225), 1),
-            BorderFactory.createEmptyBorder(8, 8, 8, 8)
-        ));
-        eventPanel.setBackground(Main.CARD_WHITE);
-        eventPanel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 280)); // Increased height
-
-        // Create image panel
-        JPanel imagePanel = createImagePanel(event);
-        eventPanel.add(imagePanel, BorderLayout.WEST);
-
-        // Create content panel (details + button)
-        JPanel contentPanel = new JPanel(new BorderLayout());
-        contentPanel.setBackground(Main.CARD_WHITE);
-        contentPanel.setBorder(BorderFactory.createEmptyBorder(25, 25, 25, 25));
-
-        // Event details panel
-        JPanel detailsPanel = new JPanel();
-        detailsPanel.setLayout(new BoxLayout(detailsPanel, BoxLayout.Y_AXIS));
-        detailsPanel.setBackground(Main.CARD_WHITE);
-
-        // Event name
-        JLabel nameLabel = new JLabel(event.getName());
-        nameLabel.setFont(new Font("Segoe UI", Font.BOLD, 22));
-        nameLabel.setForeground(Main.TEXT_DARK);
-        nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-
-        // Event description
-        JLabel descLabel = new JLabel("<html><div style='width: 400px; line-height: 1.5;'>" + event.getDescription() + "</div></html>");
-        descLabel.setFont(new Font("Segoe UI", Font.PLAIN, 14));
-        descLabel.setForeground(Main.TEXT_LIGHT);
-        descLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-
-        // Date info - simple label approach
-        JLabel dateLabel = new JLabel("📅 " + event.getDate());
-        dateLabel.setFont(new Font("Segoe UI", Font.BOLD, 15));
-        dateLabel.setForeground(Main.PRIMARY_BLUE);
-        dateLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-
-        // Venue info - simple label approach
-        JLabel venueLabel = new JLabel("📍 " + event.getVenue());
-        venueLabel.setFont(new Font("Segoe UI", Font.BOLD, 15));
-        venueLabel.setForeground(Main.PRIMARY_BLUE);
-        venueLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-
-        // Add components to details panel in proper order: Title → Description → Date → Venue
-        detailsPanel.add(nameLabel);
-        detailsPanel.add(Box.createVerticalStrut(5));
-        detailsPanel.add(descLabel);
-        detailsPanel.add(Box.createVerticalStrut(8));
-        detailsPanel.add(dateLabel);
-        detailsPanel.add(Box.createVerticalStrut(5));
-        detailsPanel.add(venueLabel);
-        detailsPanel.add(Box.createVerticalGlue()); // Push content to top
-
-        // Create compact price and button panel
-        JPanel buttonPanel = new JPanel();
-        buttonPanel.setLayout(new BoxLayout(buttonPanel, BoxLayout.Y_AXIS));
-        buttonPanel.setBackground(Main.CARD_WHITE);
-        buttonPanel.setBorder(BorderFactory.createEmptyBorder(5, 0, 0, 0)); // Reduced padding
-
-        // Compact price panel - positioned above button
-        JPanel pricePanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 0, 0)); // No padding
-        pricePanel.setBackground(Main.CARD_WHITE);
-        pricePanel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 40)); // Limit height
-
-        JPanel priceInfoPanel = new JPanel();
-        priceInfoPanel.setLayout(new BoxLayout(priceInfoPanel, BoxLayout.Y_AXIS));
-        priceInfoPanel.setBackground(Main.CARD_WHITE);
-
-        JLabel priceLabel = new JLabel("Starting from: $" + event.getBasePrice());
-        priceLabel.setFont(new Font("Segoe UI", Font.BOLD, 16)); // Smaller font
-        priceLabel.setForeground(Main.SUCCESS_GREEN);
-        priceLabel.setAlignmentX(Component.RIGHT_ALIGNMENT);
-
-        JLabel seatsLabel = new JLabel(event.getAvailableSeats() + " seats available");
-        seatsLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12)); // Smaller font
-        seatsLabel.setForeground(Main.TEXT_LIGHT);
-        seatsLabel.setAlignmentX(Component.RIGHT_ALIGNMENT);
-
-        priceInfoPanel.add(priceLabel);
-        priceInfoPanel.add(seatsLabel);
-        pricePanel.add(priceInfoPanel);
-
-        // Button panel
-        JPanel bookButtonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
-        bookButtonPanel.setBackground(Main.CARD_WHITE);
-
-        JButton bookButton = new JButton("Book Tickets");
-        bookButton.setPreferredSize(new Dimension(160, 50));
-        bookButton.setBackground(Main.ACCENT_BLUE);
-        bookButton.setForeground(Color.WHITE);
-        bookButton.setFont(new Font("Segoe UI", Font.BOLD, 15));
-        bookButton.setFocusPainted(false);
-        bookButton.setOpaque(true);
-        bookButton.setBorderPainted(false);
-        bookButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        // Beautiful rounded button effect
-        bookButton.setBorder(BorderFactory.createEmptyBorder(15, 30, 15, 30));
-
-        // Add beautiful hover effect
-        bookButton.addMouseListener(new java.awt.event.MouseAdapter() {
-            public void mouseEntered(java.awt.event.MouseEvent evt) {
-                bookButton.setBackground(Main.PRIMARY_BLUE);
+    /**
+     * Book Tickets on a card, clicked or with Enter on the selected card
+     */
+    private void addEventListHandlers() {
+        java.awt.event.MouseAdapter mouseHandler = new java.awt.event.MouseAdapter() {
+            @Override
+            public void mouseMoved(java.awt.event.MouseEvent evt) {
+                setHoveredButton(bookButtonIndexAt(evt.getPoint()));
             }
+
+            @Override
             public void mouseExited(java.awt.event.MouseEvent evt) {
-                bookButton.setBackground(Main.ACCENT_BLUE);
+                setHoveredButton(-1);
             }
-        });
 
-        bookButton.addActionListener(new ActionListener() {
+            @Override
+            public void mouseClicked(java.awt.event.MouseEvent evt) {
+                int index = bookButtonIndexAt(evt.getPoint());
+                if (index >= 0) {
+                    mainFrame.showBookingForm(eventListModel.getElementAt(index).getId());
+                }
+            }
+        };
+        eventList.addMouseListener(mouseHandler);
+        eventList.addMouseMotionListener(mouseHandler);
+
+        eventList.getInputMap().put(KeyStroke.getKeyStroke("ENTER"), "bookEvent");
+        eventList.getActionMap().put("bookEvent", new AbstractAction() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                mainFrame.showBookingForm(event.getId());
+                Event selected = eventList.getSelectedValue();
+                if (selected != null) {
+                    mainFrame.showBookingForm(selected.getId());
+                }
             }
         });
+    }
 
-        bookButtonPanel.add(bookButton);
-
-        // Add price panel and button panel to main button panel with minimal spacing
-        buttonPanel.add(pricePanel);
-        buttonPanel.add(Box.createVerticalStrut(3)); // Reduced spacing
-        buttonPanel.add(bookButtonPanel);
-
-        // Add details and button to content panel
-        contentPanel.add(detailsPanel, BorderLayout.CENTER);
-        contentPanel.add(buttonPanel, BorderLayout.SOUTH);
+    // Row whose Book Tickets button is under the point, or -1
+    private int bookButtonIndexAt(Point point) {
+        int index = eventList.locationToIndex(point);
+        if (index < 0) {
+            return -1;
+        }
+        Rectangle button = cardRenderer.getBookButtonBounds(eventList, index);
+        return button != null && button.contains(point) ? index : -1;
+    }
 
-        eventPanel.add(contentPanel, BorderLayout.CENTER);
+    // Hover effect and hand cursor for the button under the mouse
+    private void setHoveredButton(int index) {
+        int previous = cardRenderer.getHoveredIndex();
+        if (previous == index) {
+            return;
+        }
+        cardRenderer.setHoveredIndex(index);
+        eventList.setCursor(index >= 0 ? new Cursor(Cursor.HAND_CURSOR) : Cursor.getDefaultCursor());
+        repaintRow(previous);
+        repaintRow(index);
+    }
 
-        return eventPanel;
+    private void repaintRow(int index) {
+        Rectangle bounds = index >= 0 ? eventList.getCellBounds(index, index) : null;
+        if (bounds != null) {
+            eventList.repaint(bounds);
+        }
     }
 
     /**
-     * Create image panel for event with fallback to placeholder
+     * Create search box that filters the event list while typing
      */
-    private JPanel createImagePanel(Event event) {
-        JPanel imagePanel = new JPanel(new BorderLayout());
-        imagePanel.setPreferredSize(new Dimension(200, 220));
-        imagePanel.setBackground(new Color(245, 245, 245));
-        imagePanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+    private JPanel createSearchPanel() {
+        JPanel searchPanel = new JPanel(new BorderLayout(10, 0));
+        searchPanel.setBackground(Color.WHITE);
+        searchPanel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 36));
+
+        JLabel searchLabel = new JLabel("Search:");
+        searchLabel.setFont(new Font("Arial", Font.BOLD, 14));
+        searchPanel.add(searchLabel, BorderLayout.WEST);
+
+        searchField = new JTextField();
+        searchField.setFont(new Font("Arial", Font.PLAIN, 14));
+        searchField.setToolTipText("Search by event name, venue or description");
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                refreshEventList();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                refreshEventList();
+            }
 
-        JLabel imageLabel = new JLabel();
-        imageLabel.setHorizontalAlignment(JLabel.CENTER);
-        imageLabel.setVerticalAlignment(JLabel.CENTER);
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                refreshEventList();
+            }
+        });
+        searchPanel.add(searchField, BorderLayout.CENTER);
+        return searchPanel;
+    }
 
-        try {
-            // Try to load the event image
-            File imageFile = new File(event.getImagePath());
-            if (imageFile.exists()) {
-                ImageIcon originalIcon = new ImageIcon(event.getImagePath());
-                Image scaledImage = originalIcon.getImage().getScaledInstance(180, 120, Image.SCALE_SMOOTH);
-                ImageIcon scaledIcon = new ImageIcon(scaledImage);
-                imageLabel.setIcon(scaledIcon);
-            } else {
-                // Fallback to placeholder
-                createPlaceholderImage(imageLabel, event.getName());
+    public void refreshEventList() {
+        eventListModel.setEvents(bookingController.searchEvents(searchField.getText()));
+        showListOrNoResults();
+    }
+
+    private void showListOrNoResults() {
+        if (scrollPane != null) {
+            Component view = eventListModel.getSize() > 0 ? eventList : noResultsLabel;
+            if (scrollPane.getViewport().getView() != view) {
+                scrollPane.setViewportView(view);
             }
-        } catch (Exception e) {
-            // If image loading fails, create placeholder
-            createPlaceholderImage(imageLabel, event.getName());
         }
+    }
 
-        imagePanel.add(imageLabel, BorderLayout.CENTER);
-        return imagePanel;
+    // One pass on the EDT for however many changes arrive before it runs
+    private void scheduleUpdate() {
+        if (updateScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::applyEventChanges);
+        }
     }
 
     /**
-     * Create a placeholder image when actual image is not available
+     * Patch the rows of the events that changed since the last pass
      */
-    private void createPlaceholderImage(JLabel imageLabel, String eventName) {
-        // Create a simple colored placeholder
-        imageLabel.setText("<html><div style='text-align: center; width: 160px;'>" +
-                          "<div style='font-size: 24px; margin-bottom: 10px;'>🎭</div>" +
-                          "<div style='font-size: 12px; color: #666;'>" + eventName + "</div>" +
-                          "</html>");
-        imageLabel.setHorizontalAlignment(JLabel.CENTER);
-        imageLabel.setVerticalAlignment(JLabel.CENTER);
-        imageLabel.setOpaque(true);
-        imageLabel.setBackground(new Color(230, 230, 230));
-        imageLabel.setBorder(BorderFactory.createLineBorder(new Color(200, 200, 200), 1));
+    private void applyEventChanges() {
+        updateScheduled.set(false);
+        Integer eventId;
+        while ((eventId = catalogChanges.poll()) != null) {
+            // A replaced event is removed and added under the same ID - one change
+            while (eventId.equals(catalogChanges.peek())) {
+                catalogChanges.poll();
+            }
+            eventListModel.catalogChanged(bookingController.searchEvents(searchField.getText()), eventId);
+        }
+        Iterator<Event> changed = seatChanges.values().iterator();
+        while (changed.hasNext()) {
+            Event event = changed.next();
+            changed.remove();
+            eventListModel.eventChanged(event);
+        }
+        showListOrNoResults();
     }
 
     private JPanel createFooterPanel() {
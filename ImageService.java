@@ -0,0 +1,268 @@
+import javax.swing.ImageIcon;
+import javax.swing.SwingUtilities;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.MediaTracker;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Thumbnail loading service for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Decodes and scales event images on background threads and keeps the
+ * scaled images in an LRU cache bounded by bytes, keyed by path and size.
+ * Screens ask for a thumbnail, show a placeholder while it loads and get
+ * a callback on the Event Dispatch Thread when it is ready, so the EDT
+ * never decodes a JPEG. A file that cannot be read is remembered and not
+ * tried again. With a ThumbnailDiskCache, thumbnails also survive a
+ * restart and originals are only decoded when they change.
+ *
+ * Images are decoded by the AWT toolkit, as ImageIcon did before, and
+ * then halved step by step with bilinear filtering, which looks as good
+ * as Image.SCALE_SMOOTH for much less work.
+ */
+public class ImageService {
+    private static final long DEFAULT_CACHE_BYTES = 32L * 1024 * 1024;
+    private static final int LOADER_THREADS = 2;
+    private static final ImageService SHARED = new ImageService(DEFAULT_CACHE_BYTES,
+            new ThumbnailDiskCache(Paths.get("data", "thumbnails")));
+
+    private final long maxCacheBytes;
+    private final ThumbnailDiskCache diskCache;   // Thumbnails kept between runs, may be null
+    private final LinkedHashMap<String, BufferedImage> cache = new LinkedHashMap<>(64, 0.75f, true); // LRU order
+    private final Map<String, List<Consumer<BufferedImage>>> pending = new HashMap<>();  // Loads in progress
+    private final Set<String> failed = new HashSet<>();
+    private long cacheBytes;
+    private final ExecutorService loader;
+
+    public ImageService(long maxCacheBytes) {
+        this(maxCacheBytes, null);
+    }
+
+    /**
+     * Service that also keeps thumbnails on disk, so later runs can skip
+     * decoding the original images
+     */
+    public ImageService(long maxCacheBytes, ThumbnailDiskCache diskCache) {
+        this.maxCacheBytes = maxCacheBytes;
+        this.diskCache = diskCache;
+        this.loader = Executors.newFixedThreadPool(LOADER_THREADS, ThreadSupport.daemonThreads("image-loader"));
+    }
+
+    /**
+     * Service shared by all screens
+     */
+    public static ImageService shared() {
+        return SHARED;
+    }
+
+    /**
+     * Get a thumbnail if it is cached. Otherwise start loading it and
+     * return null; onReady then runs on the EDT with the thumbnail, or
+     * with null if the image cannot be read. An image that could not be
+     * read before is not tried again: null comes back straight away and
+     * onReady is not called.
+     */
+    public BufferedImage getThumbnail(String path, int width, int height, Consumer<BufferedImage> onReady) {
+        String key = key(path, width, height);
+        synchronized (this) {
+            BufferedImage cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            if (failed.contains(key)) {
+                return null;   // The caller shows its placeholder, nothing to wait for
+            }
+            List<Consumer<BufferedImage>> waiting = pending.get(key);
+            if (waiting != null) {
+                waiting.add(onReady);   // Already loading - just wait for it
+                return null;
+            }
+            waiting = new ArrayList<>(2);
+            waiting.add(onReady);
+            pending.put(key, waiting);
+        }
+        loader.execute(() -> load(key, path, width, height));
+        return null;
+    }
+
+    /**
+     * Read an image file at its own size on a loader thread. The image is
+     * not cached; onReady runs on the EDT with it, or with null if the
+     * file cannot be read.
+     */
+    public void loadImage(String path, Consumer<BufferedImage> onReady) {
+        loader.execute(() -> {
+            BufferedImage image;
+            try {
+                image = loadImage(path);
+            } catch (RuntimeException e) {
+                System.out.println("Could not load image " + path + ": " + e.getMessage());
+                image = null;
+            }
+            BufferedImage result = image;
+            SwingUtilities.invokeLater(() -> onReady.accept(result));
+        });
+    }
+
+    /**
+     * Get a thumbnail only if it is cached
+     */
+    public synchronized BufferedImage getCached(String path, int width, int height) {
+        return cache.get(key(path, width, height));
+    }
+
+    /**
+     * Stop the loader threads; thumbnails still loading are dropped
+     */
+    public void close() {
+        loader.shutdownNow();
+    }
+
+    /** Get bytes of cached thumbnails */
+    public synchronized long getCacheBytes() {
+        return cacheBytes;
+    }
+
+    /**
+     * Read an image file and scale it to exactly width x height, on the
+     * calling thread
+     * @return the thumbnail, or null if the file cannot be read
+     */
+    public static BufferedImage loadThumbnail(String path, int width, int height) {
+        if (path == null || !new File(path).isFile()) {
+            return null;
+        }
+        // createImage rather than getImage, so the toolkit does not keep the full-size image
+        Image image = Toolkit.getDefaultToolkit().createImage(path);
+        try {
+            ImageIcon icon = new ImageIcon(image);   // Waits until the image is decoded
+            if (icon.getImageLoadStatus() != MediaTracker.COMPLETE || icon.getIconWidth() <= 0) {
+                return null;
+            }
+            return scale(image, icon.getIconWidth(), icon.getIconHeight(), width, height);
+        } finally {
+            image.flush();
+        }
+    }
+
+    /**
+     * Read an image file at its own size, on the calling thread
+     * @return the image, or null if the file cannot be read
+     */
+    public static BufferedImage loadImage(String path) {
+        if (path == null || !new File(path).isFile()) {
+            return null;
+        }
+        Image image = Toolkit.getDefaultToolkit().createImage(path);
+        try {
+            ImageIcon icon = new ImageIcon(image);   // Waits until the image is decoded
+            if (icon.getImageLoadStatus() != MediaTracker.COMPLETE || icon.getIconWidth() <= 0) {
+                return null;
+            }
+            BufferedImage copy = new BufferedImage(icon.getIconWidth(), icon.getIconHeight(),
+                                                   BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = copy.createGraphics();
+            g2d.drawImage(image, 0, 0, null);
+            g2d.dispose();
+            return copy;
+        } finally {
+            image.flush();
+        }
+    }
+
+    /**
+     * Scale an image to exactly width x height, halving it with bilinear
+     * filtering until it is less than twice as large
+     */
+    public static BufferedImage scale(BufferedImage source, int width, int height) {
+        return scale(source, source.getWidth(), source.getHeight(), width, height);
+    }
+
+    private static BufferedImage scale(Image source, int sourceWidth, int sourceHeight, int width, int height) {
+        Image current = source;
+        int currentWidth = sourceWidth;
+        int currentHeight = sourceHeight;
+        do {
+            currentWidth = currentWidth >= width * 2 ? currentWidth / 2 : width;
+            currentHeight = currentHeight >= height * 2 ? currentHeight / 2 : height;
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = next.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            g2d.dispose();
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+        return (BufferedImage) current;
+    }
+
+    // Loader thread: read from disk or decode, cache and hand the thumbnail to everyone waiting
+    private void load(String key, String path, int width, int height) {
+        BufferedImage thumbnail;
+        try {
+            thumbnail = diskCache != null ? diskCache.read(path, width, height) : null;
+            if (thumbnail == null) {
+                thumbnail = loadThumbnail(path, width, height);
+                if (thumbnail != null && diskCache != null) {
+                    diskCache.write(path, thumbnail);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Could not load image " + path + ": " + e.getMessage());
+            thumbnail = null;
+        }
+
+        List<Consumer<BufferedImage>> waiting;
+        synchronized (this) {
+            waiting = pending.remove(key);
+            if (thumbnail != null) {
+                put(key, thumbnail);
+            } else {
+                failed.add(key);
+            }
+        }
+        BufferedImage result = thumbnail;
+        SwingUtilities.invokeLater(() -> {
+            for (Consumer<BufferedImage> onReady : waiting) {
+                onReady.accept(result);
+            }
+        });
+    }
+
+    private void put(String key, BufferedImage thumbnail) {
+        BufferedImage previous = cache.put(key, thumbnail);
+        if (previous != null) {
+            cacheBytes -= bytes(previous);
+        }
+        cacheBytes += bytes(thumbnail);
+        // Evict least recently used thumbnails, but always keep the new one
+        Iterator<Map.Entry<String, BufferedImage>> eldest = cache.entrySet().iterator();
+        while (cacheBytes > maxCacheBytes && cache.size() > 1) {
+            cacheBytes -= bytes(eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+
+    private static long bytes(BufferedImage image) {
+        return 4L * image.getWidth() * image.getHeight();
+    }
+
+    private static String key(String path, int width, int height) {
+        return path + '@' + width + 'x' + height;
+    }
+}
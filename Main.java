@@ -2,6 +2,8 @@
 import javax.swing.*;
 import java.awt.*;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
 
 /**
  * Event Ticket Booking System - Main Application Class
@@ -138,7 +140,16 @@ public class Main extends JFrame {
     public Main() {
         // Step 1: Initialize business logic controller
         // This handles all data management and business rules
-        bookingController = new BookingController();
+        // Bookings are saved under data/ (snapshot + journal) so they survive a restart
+        try {
+            bookingController = new BookingController(Paths.get("data"),
+                                                      BookingJournal.DurabilityMode.GROUP_COMMIT);
+        } catch (IOException e) {
+            // Fall back to memory-only bookings if the journal cannot be opened
+            System.out.println("Booking journal unavailable, bookings will not be saved: " + e.getMessage());
+            bookingController = new BookingController();
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(bookingController::close));
 
         // Step 2: Initialize the main application window
         initializeFrame();
@@ -211,7 +222,7 @@ public class Main extends JFrame {
     }
 
     public void showHome() {
-        homePanel.refreshEventList();
+        // The home screen keeps itself up to date through booking controller events
         showCard(HOME_CARD);
     }
 
@@ -256,46 +267,8 @@ public class Main extends JFrame {
      * @return JPanel with background image and text
      */
     public static JPanel createHeaderWithBackground(String title, String subtitle, Color backgroundColor) {
-        // Create custom panel with background image support
-        JPanel headerPanel = new JPanel(new BorderLayout()) {
-            private Image backgroundImage;
-
-            {
-                // Try to load background image
-                try {
-                    File bgFile = new File("images/header_background.jpg");
-                    if (bgFile.exists()) {
-                        backgroundImage = Toolkit.getDefaultToolkit().createImage("images/header_background.jpg");
-                    }
-                } catch (Exception e) {
-                    backgroundImage = null;
-                }
-            }
-
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                if (backgroundImage != null) {
-                    // Draw background image scaled to fit
-                    Graphics2D g2d = (Graphics2D) g.create();
-                    g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                    g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-
-                    // Add semi-transparent overlay for better text readability
-                    g2d.setColor(new Color(backgroundColor.getRed(), backgroundColor.getGreen(),
-                                         backgroundColor.getBlue(), 180)); // 180/255 = ~70% opacity
-                    g2d.fillRect(0, 0, getWidth(), getHeight());
-                    g2d.dispose();
-                } else {
-                    // Fallback to solid color background
-                    setBackground(backgroundColor);
-                }
-            }
-        };
-
-        // Set transparent background so custom painting shows
-        boolean hasBackgroundImage = new File("images/header_background.jpg").exists();
-        headerPanel.setOpaque(!hasBackgroundImage);
+        // Header photo with a translucent overlay, shared by every screen
+        JPanel headerPanel = HeaderBackgroundRenderer.createPanel(backgroundColor);
         headerPanel.setBorder(BorderFactory.createEmptyBorder(30, 30, 30, 30));
 
         // Create title panel
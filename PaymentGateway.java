@@ -0,0 +1,16 @@
+import java.math.BigDecimal;
+
+/**
+ * Payment gateway interface for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Implementations may block while the payment is processed; PaymentService
+ * calls them from its own threads, never from the Swing event thread.
+ */
+public interface PaymentGateway {
+    /**
+     * Charge a card and return the outcome
+     * @throws InterruptedException if the payment was cancelled while in flight
+     */
+    PaymentResult charge(String cardNumber, String cardHolder, BigDecimal amount) throws InterruptedException;
+}
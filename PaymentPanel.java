@@ -22,6 +22,15 @@ public class PaymentPanel extends JPanel {
     // Main application components for navigation and data management
     private Main mainFrame;
     private BookingController bookingController;
+    private PaymentService paymentService;   // Processes payments in the background
+
+    // Simulated gateway settings: 4-second processing delay for realistic experience
+    private static final long PAYMENT_LATENCY_MILLIS = 4000;
+    private static final double PAYMENT_FAILURE_RATE = 0.0;
+    private static final int MAX_CONCURRENT_PAYMENTS = 64;
+    private static final int MAX_PENDING_PAYMENTS = 10000;
+    private static final long PAYMENT_TIMEOUT_MILLIS = 30000;
+    private static final long SEAT_HOLD_MILLIS = 60000;   // Longer than any payment may take
 
     // Payment form components - demonstrates various input field types
     private JTextField cardNumberField;      // Credit card number input
@@ -46,6 +55,7 @@ public class PaymentPanel extends JPanel {
     private String seatType;                 // Selected seat type
     private int quantity;                    // Number of tickets
     private BigDecimal totalAmount;          // Total payment amount
+    private SeatHold seatHold;               // Seats held while the payment runs
 
     /**
      * Constructor - Initialize the payment panel
@@ -57,6 +67,9 @@ public class PaymentPanel extends JPanel {
     public PaymentPanel(Main mainFrame, BookingController bookingController) {
         this.mainFrame = mainFrame;
         this.bookingController = bookingController;
+        this.paymentService = new PaymentService(
+            new SimulatedPaymentGateway(PAYMENT_LATENCY_MILLIS, PAYMENT_FAILURE_RATE),
+            MAX_CONCURRENT_PAYMENTS, MAX_PENDING_PAYMENTS, PAYMENT_TIMEOUT_MILLIS);
         initializePanel();
     }
 
@@ -454,34 +467,54 @@ public class PaymentPanel extends JPanel {
      * This method demonstrates seamless user experience
      */
     private void processPayment() {
+        // A hold left open by an earlier try would keep its seats off sale until it expires
+        releaseSeatHold();
+
+        // Hold the seats before taking payment, so nobody else can buy them meanwhile
+        seatHold = bookingController.holdSeats(selectedEvent.getId(),
+            SeatType.fromLabel(seatType), quantity, SEAT_HOLD_MILLIS);
+        if (seatHold == null) {
+            JOptionPane.showMessageDialog(this,
+                "Sorry, there are not enough " + seatType + " seats left for this event.",
+                "Seats Unavailable",
+                JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
         // Disable the payment button to prevent double-clicking
         processPaymentButton.setEnabled(false);
         processPaymentButton.setText("Processing...");
 
-        // Create a background payment processing simulation
-        // This demonstrates threading concepts without interrupting user flow
-        SwingWorker<Void, Void> paymentWorker = new SwingWorker<Void, Void>() {
-            @Override
-            protected Void doInBackground() throws Exception {
-                // Simulate realistic payment processing in background
-                // 4-second processing delay for realistic experience
-                Thread.sleep(4000);
-                return null;
-            }
-
-            @Override
-            protected void done() {
-                // Re-enable button
-                processPaymentButton.setEnabled(true);
-                processPaymentButton.setText("🔒 Process Payment");
-
-                // Automatically complete booking and show receipt
-                completeBooking();
-            }
-        };
+        // Submit the payment to the payment service - it runs off the EDT
+        // and calls back when the gateway answers or the payment times out
+        String cardNumber = cardNumberField.getText().replaceAll("\\s+", "");
+        String cardHolder = cardHolderField.getText().trim();
+        paymentService.submit(cardNumber, cardHolder, totalAmount,
+            result -> SwingUtilities.invokeLater(() -> paymentCompleted(result)));
+    }
 
-        // Execute payment processing in background - no popup dialog
-        paymentWorker.execute();
+    /**
+     * Handles the payment result on the EDT
+     * Completes the booking if the payment was approved
+     *
+     * @param result Outcome reported by the payment service
+     */
+    private void paymentCompleted(PaymentResult result) {
+        // Re-enable button
+        processPaymentButton.setEnabled(true);
+        processPaymentButton.setText("🔒 Process Payment");
+
+        if (result.isApproved()) {
+            // Automatically complete booking and show receipt
+            completeBooking();
+        } else {
+            // Payment failed - put the held seats back on sale
+            releaseSeatHold();
+            JOptionPane.showMessageDialog(this,
+                result.getMessage() + ". Please try again.",
+                "Payment Error",
+                JOptionPane.ERROR_MESSAGE);
+        }
     }
 
     /**
@@ -491,17 +524,20 @@ public class PaymentPanel extends JPanel {
      */
     private void completeBooking() {
         try {
-            // Create the booking object with all collected information
-            Booking booking = bookingController.createBooking(
-                customerName, customerEmail, customerPhone,
-                selectedEvent.getId(), seatType, quantity
+            // Turn the seat hold into a booking with all collected information
+            Booking booking = bookingController.confirmHold(
+                seatHold, customerName, customerEmail, customerPhone
             );
 
             if (booking != null) {
+                seatHold = null;
+
                 // Automatically navigate to receipt page - no intermediate dialog needed
                 // This creates a smooth, professional user experience
                 mainFrame.showReceipt(booking);
             } else {
+                // The details could not be stored - do not leave the seats held
+                releaseSeatHold();
                 JOptionPane.showMessageDialog(this,
                     "Failed to create booking. Please try again.",
                     "Booking Error",
@@ -510,6 +546,7 @@ public class PaymentPanel extends JPanel {
 
         } catch (Exception e) {
             // Handle booking creation errors - only show dialog for actual errors
+            releaseSeatHold();
             JOptionPane.showMessageDialog(this,
                 "Error creating booking: " + e.getMessage(),
                 "Booking Error",
@@ -517,6 +554,16 @@ public class PaymentPanel extends JPanel {
         }
     }
 
+    /**
+     * Puts the seats of the current hold back on sale, if it is still open
+     */
+    private void releaseSeatHold() {
+        if (seatHold != null) {
+            bookingController.releaseHold(seatHold);
+            seatHold = null;
+        }
+    }
+
     /**
      * Clears all payment form fields
      * This method demonstrates form reset functionality
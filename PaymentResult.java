@@ -0,0 +1,65 @@
+/**
+ * Outcome of a payment for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ */
+public class PaymentResult {
+    public enum Status {
+        APPROVED,   // Card charged
+        DECLINED,   // Gateway refused the payment
+        TIMED_OUT,  // No answer within the service timeout
+        REJECTED,   // Service too busy to take the payment
+        ERROR       // Gateway failed unexpectedly
+    }
+
+    private final Status status;
+    private final String transactionId;
+    private final String message;
+
+    public PaymentResult(Status status, String transactionId, String message) {
+        this.status = status;
+        this.transactionId = transactionId;
+        this.message = message;
+    }
+
+    public static PaymentResult approved(String transactionId) {
+        return new PaymentResult(Status.APPROVED, transactionId, "Payment approved");
+    }
+
+    public static PaymentResult declined(String message) {
+        return new PaymentResult(Status.DECLINED, null, message);
+    }
+
+    public static PaymentResult timedOut() {
+        return new PaymentResult(Status.TIMED_OUT, null, "Payment timed out");
+    }
+
+    public static PaymentResult rejected() {
+        return new PaymentResult(Status.REJECTED, null, "Payment service is busy");
+    }
+
+    public static PaymentResult error(String message) {
+        return new PaymentResult(Status.ERROR, null, message);
+    }
+
+    // Getters
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isApproved() {
+        return status == Status.APPROVED;
+    }
+
+    @Override
+    public String toString() {
+        return status + (transactionId != null ? " " + transactionId : "") + ": " + message;
+    }
+}
@@ -0,0 +1,124 @@
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous payment processing for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Each payment runs on its own task thread (virtual on Java 21+, see
+ * ThreadSupport) so a slow gateway never blocks the caller or the Swing
+ * event thread. At most maxConcurrent payments talk to the gateway at
+ * once and at most maxPending are accepted in total; payments over that
+ * limit are rejected straight away, and any payment that has no answer
+ * within the timeout completes as TIMED_OUT.
+ */
+public class PaymentService implements AutoCloseable {
+    private final PaymentGateway gateway;
+    private final Semaphore gatewayPermits;
+    private final int maxPending;
+    private final long timeoutMillis;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ExecutorService executor;
+
+    /**
+     * @param gateway gateway that performs the payments
+     * @param maxConcurrent payments allowed inside the gateway at the same time
+     * @param maxPending payments accepted (waiting or in the gateway) before new ones are rejected
+     * @param timeoutMillis time a payment may take, including time spent waiting for the gateway
+     */
+    public PaymentService(PaymentGateway gateway, int maxConcurrent, int maxPending, long timeoutMillis) {
+        if (maxConcurrent < 1 || maxPending < maxConcurrent || timeoutMillis <= 0) {
+            throw new IllegalArgumentException("Invalid payment service limits");
+        }
+        this.gateway = gateway;
+        this.gatewayPermits = new Semaphore(maxConcurrent);
+        this.maxPending = maxPending;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = ThreadSupport.newTaskExecutor("payment", maxConcurrent);
+    }
+
+    /**
+     * Start a payment. The returned future always completes normally with a
+     * PaymentResult; the callback, if given, runs on the thread that
+     * completes it, so Swing callers should hand off with invokeLater.
+     */
+    public CompletableFuture<PaymentResult> submit(String cardNumber, String cardHolder, BigDecimal amount,
+                                                   Consumer<PaymentResult> callback) {
+        CompletableFuture<PaymentResult> result = new CompletableFuture<>();
+        if (callback != null) {
+            result.thenAccept(callback).exceptionally(e -> {
+                System.out.println("Payment callback failed: " + e.getMessage());
+                return null;
+            });
+        }
+
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            result.complete(PaymentResult.rejected());
+            return result;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Future<?> task;
+        try {
+            task = executor.submit(() -> result.complete(process(cardNumber, cardHolder, amount, deadline)));
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            result.complete(PaymentResult.rejected());
+            return result;
+        }
+
+        // Whichever finishes first wins; a payment still in the gateway after a
+        // timeout is interrupted so its thread and permit are freed
+        result.completeOnTimeout(PaymentResult.timedOut(), timeoutMillis, TimeUnit.MILLISECONDS);
+        result.whenComplete((paymentResult, error) -> {
+            pending.decrementAndGet();
+            task.cancel(true);
+        });
+        return result;
+    }
+
+    /** Get number of payments accepted but not yet completed */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Stop accepting payments and interrupt the ones in flight
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private PaymentResult process(String cardNumber, String cardHolder, BigDecimal amount, long deadline) {
+        try {
+            if (!gatewayPermits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return PaymentResult.timedOut();
+            }
+            try {
+                PaymentResult paymentResult = gateway.charge(cardNumber, cardHolder, amount);
+                return paymentResult != null ? paymentResult : PaymentResult.error("Gateway returned no result");
+            } finally {
+                gatewayPermits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return PaymentResult.timedOut();
+        } catch (RuntimeException e) {
+            System.out.println("Payment gateway error: " + e.getMessage());
+            return PaymentResult.error("Payment could not be processed");
+        }
+    }
+}
@@ -176,6 +176,17 @@ public class ReceiptPanel extends JPanel {
         // Enable PDF download button when valid booking data is available
         downloadPdfButton.setEnabled(true);
 
+        receiptTextArea.setText(formatReceipt(booking));
+        receiptTextArea.setCaretPosition(0); // Scroll to top
+    }
+
+    /**
+     * Builds the on-screen receipt text for a booking
+     * Kept separate from displayBooking so the text can be produced without a visible panel
+     * @param booking The booking to describe
+     * @return Formatted receipt text
+     */
+    static String formatReceipt(Booking booking) {
         StringBuilder receipt = new StringBuilder();
         receipt.append("===============================================\n");
         receipt.append("         EVENT TICKET BOOKING\n");
@@ -218,8 +229,7 @@ public class ReceiptPanel extends JPanel {
         receipt.append("Please keep this receipt for your records.\n");
         receipt.append("===============================================\n");
 
-        receiptTextArea.setText(receipt.toString());
-        receiptTextArea.setCaretPosition(0); // Scroll to top
+        return receipt.toString();
     }
 
     /**
@@ -0,0 +1,74 @@
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Seat hold for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Seats taken out of an event's inventory while the customer pays. A hold
+ * ends exactly once: confirmed into a booking, released by the customer,
+ * or expired by SeatHoldManager when its time is up.
+ */
+public class SeatHold extends TimingWheel.Entry {
+    public enum State { HELD, CONFIRMED, RELEASED, EXPIRED }
+
+    private static final State[] STATES = State.values();
+    private static final AtomicIntegerFieldUpdater<SeatHold> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(SeatHold.class, "state");
+
+    private final Event event;
+    private final SeatType seatType;
+    private final int quantity;
+    private final long expiresAtMillis;
+    private volatile int state;   // State ordinal, changed only by CAS
+
+    public SeatHold(Event event, SeatType seatType, int quantity, long expiresAtMillis) {
+        this.event = event;
+        this.seatType = seatType;
+        this.quantity = quantity;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    // Getters
+    public Event getEvent() {
+        return event;
+    }
+
+    public SeatType getSeatType() {
+        return seatType;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    /** Get the wall-clock time (System.currentTimeMillis) this hold expires at */
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    public State getState() {
+        return STATES[state];
+    }
+
+    public boolean isHeld() {
+        return state == State.HELD.ordinal();
+    }
+
+    /**
+     * Move the hold out of HELD
+     * @return true if this call ended the hold, false if it had already ended
+     */
+    boolean end(State newState) {
+        return STATE.compareAndSet(this, State.HELD.ordinal(), newState.ordinal());
+    }
+
+    @Override
+    protected boolean isDone() {
+        return !isHeld();
+    }
+
+    @Override
+    public String toString() {
+        return getState() + " " + quantity + " x " + seatType + " for " + event.getName();
+    }
+}
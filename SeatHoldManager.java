@@ -0,0 +1,235 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Seat hold management for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Holds take seats out of an event's inventory straight away, so two
+ * customers can never pay for the same last seats. A hold that is neither
+ * confirmed nor released within its time to live expires and its seats go
+ * back on sale. Expiry is driven by one TimingWheel ticked by a single
+ * background thread, so millions of open holds cost one small object each
+ * and no timers.
+ *
+ * Holds are not saved, so a snapshot must count their seats as available;
+ * getHeldSeats tells how many that is.
+ */
+public class SeatHoldManager implements AutoCloseable {
+    private static final long DEFAULT_TICK_MILLIS = 100;
+
+    private final long tickMillis;
+    private final long tickNanos;
+    private final long startNanos;
+    private final TimingWheel wheel;
+    private final Set<SeatHold> openHolds = ConcurrentHashMap.newKeySet();
+    private final Consumer<Event> seatsReleased;        // Told when a hold gives its seats back
+    private final Lock changeLock;                      // Held while seats and open holds change together
+    private volatile ScheduledExecutorService ticker;   // Started by the first hold
+    private boolean closed;
+
+    public SeatHoldManager() {
+        this(DEFAULT_TICK_MILLIS);
+    }
+
+    /**
+     * @param seatsReleased told about the event whenever a released or
+     *                      expired hold gives its seats back
+     */
+    public SeatHoldManager(Consumer<Event> seatsReleased) {
+        this(DEFAULT_TICK_MILLIS, seatsReleased);
+    }
+
+    public SeatHoldManager(Consumer<Event> seatsReleased, Lock changeLock) {
+        this(DEFAULT_TICK_MILLIS, seatsReleased, changeLock);
+    }
+
+    /**
+     * @param tickMillis expiry resolution; holds expire up to one tick late
+     */
+    public SeatHoldManager(long tickMillis) {
+        this(tickMillis, event -> { });
+    }
+
+    public SeatHoldManager(long tickMillis, Consumer<Event> seatsReleased) {
+        this(tickMillis, seatsReleased, new ReentrantReadWriteLock().readLock());
+    }
+
+    /**
+     * @param changeLock held around every change to seats and open holds;
+     *                   pass the read side of a lock whose write side is
+     *                   taken while getHeldSeats and the seats are read
+     */
+    public SeatHoldManager(long tickMillis, Consumer<Event> seatsReleased, Lock changeLock) {
+        this.seatsReleased = seatsReleased;
+        this.changeLock = changeLock;
+        this.tickMillis = tickMillis;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.startNanos = System.nanoTime();
+        this.wheel = new TimingWheel(0);
+    }
+
+    /**
+     * Hold seats for the given time
+     * @return the hold, already expired if its time ran out while it was
+     *         made, or null if not enough seats of that type are left
+     */
+    public SeatHold hold(Event event, SeatType seatType, int quantity, long ttlMillis) {
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("Hold time must be positive");
+        }
+        if (ticker == null) {
+            startTicker();
+        }
+        SeatHold hold = new SeatHold(event, seatType, quantity, System.currentTimeMillis() + ttlMillis);
+        long ttlTicks = (TimeUnit.MILLISECONDS.toNanos(ttlMillis) + tickNanos - 1) / tickNanos;
+        changeLock.lock();
+        try {
+            if (!event.tryReserve(seatType, quantity)) {
+                return null;
+            }
+            openHolds.add(hold);
+            boolean scheduled;
+            try {
+                scheduled = wheel.schedule(hold, currentTick() + ttlTicks);
+            } catch (IllegalArgumentException e) {
+                openHolds.remove(hold);
+                event.releaseSeats(seatType, quantity);
+                throw e;
+            }
+            if (!scheduled) {
+                // The expiry thread is already past the deadline and would never expire it
+                hold.end(SeatHold.State.EXPIRED);
+                openHolds.remove(hold);
+                event.releaseSeats(seatType, quantity);
+            }
+        } finally {
+            changeLock.unlock();
+        }
+        return hold;
+    }
+
+    /**
+     * Turn a hold into a sale; its seats stay taken. A hold that is out of
+     * time is not confirmed but keeps its seats until expireIfDue or the
+     * expiry thread gives them back, so no listener is told while the
+     * caller may hold a lock.
+     * @return false if the hold has expired or was already confirmed or released
+     */
+    public boolean confirm(SeatHold hold) {
+        if (isDue(hold)) {
+            return false;
+        }
+        changeLock.lock();
+        try {
+            if (hold.end(SeatHold.State.CONFIRMED)) {
+                openHolds.remove(hold);
+                return true;
+            }
+            return false;
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    /**
+     * Expire a hold that is out of time even if the expiry thread has not
+     * got to it yet
+     * @return false if the hold still has time or had already ended
+     */
+    public boolean expireIfDue(SeatHold hold) {
+        return isDue(hold) && endAndRelease(hold, SeatHold.State.EXPIRED);
+    }
+
+    /**
+     * Give the held seats back
+     * @return false if the hold had already ended
+     */
+    public boolean release(SeatHold hold) {
+        return endAndRelease(hold, SeatHold.State.RELEASED);
+    }
+
+    /** Get number of holds that are neither confirmed, released nor expired */
+    public int getActiveHolds() {
+        return openHolds.size();
+    }
+
+    /**
+     * Get the seats taken by open holds
+     * @return held seats per event, indexed by seat type ordinal
+     */
+    public Map<Event, int[]> getHeldSeats() {
+        Map<Event, int[]> held = new HashMap<>();
+        for (SeatHold hold : openHolds) {
+            held.computeIfAbsent(hold.getEvent(), event -> new int[SeatType.count()])
+                [hold.getSeatType().ordinal()] += hold.getQuantity();
+        }
+        return held;
+    }
+
+    /**
+     * Stop expiring holds; open holds keep their seats
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    // Controllers that never hold seats never pay for the expiry thread
+    private synchronized void startTicker() {
+        if (ticker != null) {
+            return;
+        }
+        if (closed) {
+            throw new IllegalStateException("Seat hold manager is closed");
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(ThreadSupport.daemonThreads("seat-hold-expiry"));
+        ticker.scheduleAtFixedRate(this::expireHolds, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void expireHolds() {
+        try {
+            wheel.advanceTo(currentTick(), entry -> expire((SeatHold) entry));
+        } catch (RuntimeException e) {
+            System.out.println("Seat hold expiry failed: " + e.getMessage());
+        }
+    }
+
+    private void expire(SeatHold hold) {
+        endAndRelease(hold, SeatHold.State.EXPIRED);
+    }
+
+    private boolean endAndRelease(SeatHold hold, SeatHold.State state) {
+        changeLock.lock();
+        try {
+            if (!hold.end(state)) {
+                return false;
+            }
+            openHolds.remove(hold);
+            hold.getEvent().releaseSeats(hold.getSeatType(), hold.getQuantity());
+        } finally {
+            changeLock.unlock();
+        }
+        seatsReleased.accept(hold.getEvent());
+        return true;
+    }
+
+    private boolean isDue(SeatHold hold) {
+        return currentTick() >= hold.getDeadlineTick();
+    }
+
+    private long currentTick() {
+        return (System.nanoTime() - startNanos) / tickNanos;
+    }
+}
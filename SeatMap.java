@@ -0,0 +1,383 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Seat map for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Tracks every single seat of a venue as one bit: sections are split into
+ * rows, and each row is a run of 64-bit words in one AtomicLongArray where
+ * a set bit means the seat is free. A 100,000-seat venue in rows of 100
+ * takes about 24 KB, and searching a row looks at 64 seats per step.
+ *
+ * Seats are numbered from 0 across the whole venue, section by section and
+ * row by row, front row first.
+ *
+ * The map stands on its own for now: Event, SeatHoldManager and the
+ * booking path still count seats per seat type and do not claim seats
+ * here, and stored bookings carry no seat numbers.
+ */
+public class SeatMap {
+
+    /**
+     * Section of the venue, all sold at one seat type
+     */
+    public static class Section {
+        private final String name;
+        private final SeatType seatType;
+        private final int seats;
+        private final int seatsPerRow;
+
+        /**
+         * @param seats total seats in the section; the last row holds whatever is left over
+         */
+        public Section(String name, SeatType seatType, int seats, int seatsPerRow) {
+            if (seats < 0 || seatsPerRow <= 0) {
+                throw new IllegalArgumentException("Invalid section size");
+            }
+            this.name = name;
+            this.seatType = seatType;
+            this.seats = seats;
+            this.seatsPerRow = seatsPerRow;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public SeatType getSeatType() {
+            return seatType;
+        }
+
+        public int getSeats() {
+            return seats;
+        }
+
+        public int getSeatsPerRow() {
+            return seatsPerRow;
+        }
+
+        int getRows() {
+            return (seats + seatsPerRow - 1) / seatsPerRow;
+        }
+    }
+
+    private final Section[] sections;
+    private final int[] sectionFirstRow;   // Per section, plus one past the last row at the end
+    private final int[] rowFirstSeat;      // Per row, plus the total seat count at the end
+    private final int[] rowFirstWord;      // Per row, plus the total word count at the end
+    private final AtomicLongArray free;    // Bit set = seat free
+
+    public SeatMap(Section... sections) {
+        this.sections = sections.clone();
+        int rows = 0;
+        for (Section section : sections) {
+            rows += section.getRows();
+        }
+        this.sectionFirstRow = new int[sections.length + 1];
+        this.rowFirstSeat = new int[rows + 1];
+        this.rowFirstWord = new int[rows + 1];
+
+        int row = 0;
+        int seat = 0;
+        int word = 0;
+        for (int s = 0; s < sections.length; s++) {
+            sectionFirstRow[s] = row;
+            int left = sections[s].getSeats();
+            for (int r = 0; r < sections[s].getRows(); r++) {
+                int length = Math.min(left, sections[s].getSeatsPerRow());
+                rowFirstSeat[row] = seat;
+                rowFirstWord[row] = word;
+                seat += length;
+                word += (length + 63) >>> 6;
+                left -= length;
+                row++;
+            }
+        }
+        sectionFirstRow[sections.length] = row;
+        rowFirstSeat[rows] = seat;
+        rowFirstWord[rows] = word;
+
+        this.free = new AtomicLongArray(word);
+        for (int r = 0; r < rows; r++) {
+            int length = rowLength(r);
+            for (int w = 0; w < (length + 63) >>> 6; w++) {
+                int bits = Math.min(64, length - (w << 6));
+                free.set(rowFirstWord[r] + w, bits == 64 ? -1L : (1L << bits) - 1);
+            }
+        }
+    }
+
+    /**
+     * Seat map for an event: Premium rows at the front, then VIP, then
+     * Standard, each as large as the event's capacity for that seat type
+     */
+    public static SeatMap forEvent(Event event, int seatsPerRow) {
+        SeatType[] frontToBack = {SeatType.PREMIUM, SeatType.VIP, SeatType.STANDARD};
+        Section[] sections = new Section[frontToBack.length];
+        for (int i = 0; i < frontToBack.length; i++) {
+            sections[i] = new Section(frontToBack[i].getLabel(), frontToBack[i],
+                                      event.getSeatCapacity(frontToBack[i]), seatsPerRow);
+        }
+        return new SeatMap(sections);
+    }
+
+    // Search
+
+    /**
+     * Find the best block of quantity adjacent free seats of a seat type:
+     * the front-most row that has room, as close to the row centre as possible
+     * @return the first seat of the block, or -1 if no row has room
+     */
+    public int findBestSeats(SeatType seatType, int quantity) {
+        for (int s = 0; s < sections.length; s++) {
+            if (sections[s].getSeatType() != seatType) {
+                continue;
+            }
+            for (int row = sectionFirstRow[s]; row < sectionFirstRow[s + 1]; row++) {
+                int start = findInRow(row, quantity);
+                if (start >= 0) {
+                    return rowFirstSeat[row] + start;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find and claim the best block of adjacent seats in one step
+     * @return the first seat claimed, or -1 if no row has room
+     */
+    public int claimBestSeats(SeatType seatType, int quantity) {
+        while (true) {
+            int seat = findBestSeats(seatType, quantity);
+            if (seat < 0 || claim(seat, quantity)) {
+                return seat;
+            }
+            // Someone took part of the block between search and claim - search again
+        }
+    }
+
+    // Claims
+
+    /**
+     * Claim quantity adjacent seats starting at firstSeat, all or nothing
+     * @return false if any of them is already taken or they do not fit in one row
+     */
+    public boolean claim(int firstSeat, int quantity) {
+        int row = rowOf(firstSeat);
+        int bit = firstSeat - rowFirstSeat[row];
+        if (quantity <= 0 || bit + quantity > rowLength(row)) {
+            return false;
+        }
+        int base = rowFirstWord[row];
+        int end = bit + quantity;
+        for (int position = bit; position < end; position = (position | 63) + 1) {
+            int word = base + (position >>> 6);
+            long mask = mask(position, end);
+            if (!clearBits(word, mask)) {
+                // Undo the words already claimed
+                for (int undo = bit; undo < position; undo = (undo | 63) + 1) {
+                    setBits(base + (undo >>> 6), mask(undo, end));
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Put quantity adjacent seats starting at firstSeat back on sale
+     */
+    public void release(int firstSeat, int quantity) {
+        int row = rowOf(firstSeat);
+        int bit = firstSeat - rowFirstSeat[row];
+        if (quantity <= 0 || bit + quantity > rowLength(row)) {
+            throw new IllegalArgumentException("Seats do not fit in one row");
+        }
+        int base = rowFirstWord[row];
+        int end = bit + quantity;
+        for (int position = bit; position < end; position = (position | 63) + 1) {
+            setBits(base + (position >>> 6), mask(position, end));
+        }
+    }
+
+    // Queries
+
+    public boolean isFree(int seat) {
+        int row = rowOf(seat);
+        int bit = seat - rowFirstSeat[row];
+        return (free.get(rowFirstWord[row] + (bit >>> 6)) & (1L << bit)) != 0;
+    }
+
+    /** Get number of free seats of a seat type */
+    public int getFreeSeats(SeatType seatType) {
+        int count = 0;
+        for (int s = 0; s < sections.length; s++) {
+            if (sections[s].getSeatType() == seatType) {
+                int lastWord = rowFirstWord[sectionFirstRow[s + 1]];
+                for (int w = rowFirstWord[sectionFirstRow[s]]; w < lastWord; w++) {
+                    count += Long.bitCount(free.get(w));
+                }
+            }
+        }
+        return count;
+    }
+
+    public int getTotalSeats() {
+        return rowFirstSeat[rowFirstSeat.length - 1];
+    }
+
+    /** Get the seat type a seat is sold at */
+    public SeatType getSeatType(int seat) {
+        return sections[sectionOf(rowOf(seat))].getSeatType();
+    }
+
+    /**
+     * Describe a seat for tickets and receipts, e.g. "VIP Row 2 Seat 14"
+     */
+    public String describeSeat(int seat) {
+        int row = rowOf(seat);
+        int section = sectionOf(row);
+        return sections[section].getName() + " Row " + (row - sectionFirstRow[section] + 1)
+                + " Seat " + (seat - rowFirstSeat[row] + 1);
+    }
+
+    /**
+     * Approximate heap bytes used by the map's arrays, not counting the sections
+     */
+    public long getMemoryBytes() {
+        return arrayBytes(8, free.length()) + arrayBytes(4, sectionFirstRow.length)
+                + arrayBytes(4, rowFirstSeat.length) + arrayBytes(4, rowFirstWord.length)
+                + arrayBytes(4, sections.length);
+    }
+
+    // Bit helpers
+
+    /**
+     * Best start, relative to the row, of quantity adjacent free seats in a
+     * row, or -1. Runs of free seats are walked a word at a time: full and
+     * empty words are skipped whole, and run ends inside a word are found
+     * with numberOfTrailingZeros.
+     */
+    private int findInRow(int row, int quantity) {
+        int length = rowLength(row);
+        if (quantity <= 0 || quantity > length) {
+            return -1;
+        }
+        int base = rowFirstWord[row];
+        int words = rowFirstWord[row + 1] - base;
+        int centre = (length - quantity) / 2;   // Ideal start of the block
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        int runStart = -1;
+
+        for (int w = 0; w <= words; w++) {
+            // One extra all-taken word at the end closes a run that reaches the end of the row
+            long bits = w < words ? free.get(base + w) : 0L;
+            if (bits == -1L) {
+                if (runStart < 0) {
+                    runStart = w << 6;
+                }
+                continue;
+            }
+            if (bits == 0L && runStart < 0) {
+                continue;
+            }
+            int position = 0;
+            while (position < 64) {
+                if (runStart >= 0) {
+                    long taken = ~bits >>> position;
+                    if (taken == 0) {
+                        break;   // Run goes on into the next word
+                    }
+                    position += Long.numberOfTrailingZeros(taken);
+                    int runEnd = (w << 6) + position;
+                    if (runEnd - runStart >= quantity) {
+                        // Closest start to the centre inside this run
+                        int start = Math.max(runStart, Math.min(centre, runEnd - quantity));
+                        int distance = Math.abs(start - centre);
+                        if (distance < bestDistance) {
+                            best = start;
+                            bestDistance = distance;
+                            if (distance == 0) {
+                                return best;
+                            }
+                        }
+                    }
+                    runStart = -1;
+                } else {
+                    long remaining = bits >>> position;
+                    if (remaining == 0) {
+                        break;
+                    }
+                    position += Long.numberOfTrailingZeros(remaining);
+                    runStart = (w << 6) + position;
+                }
+            }
+        }
+        return best;
+    }
+
+    // Bits position..end-1 that fall in position's word
+    private static long mask(int position, int end) {
+        int from = position & 63;
+        int to = Math.min(64, end - (position & ~63));
+        long upTo = to == 64 ? -1L : (1L << to) - 1;
+        return upTo & (-1L << from);
+    }
+
+    private boolean clearBits(int word, long mask) {
+        while (true) {
+            long current = free.get(word);
+            if ((current & mask) != mask) {
+                return false;
+            }
+            if (free.compareAndSet(word, current, current & ~mask)) {
+                return true;
+            }
+        }
+    }
+
+    private void setBits(int word, long mask) {
+        while (true) {
+            long current = free.get(word);
+            if (free.compareAndSet(word, current, current | mask)) {
+                return;
+            }
+        }
+    }
+
+    private int rowLength(int row) {
+        return rowFirstSeat[row + 1] - rowFirstSeat[row];
+    }
+
+    private int rowOf(int seat) {
+        if (seat < 0 || seat >= getTotalSeats()) {
+            throw new IndexOutOfBoundsException("No seat " + seat);
+        }
+        return upperBound(rowFirstSeat, rowFirstSeat.length - 1, seat) - 1;
+    }
+
+    private int sectionOf(int row) {
+        return upperBound(sectionFirstRow, sectionFirstRow.length - 1, row) - 1;
+    }
+
+    // First index in values[0..length) whose value is greater than key
+    private static int upperBound(int[] values, int length, int key) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long arrayBytes(int elementBytes, int length) {
+        return (16 + (long) elementBytes * length + 7) & ~7L;
+    }
+}
@@ -0,0 +1,93 @@
+import java.math.BigDecimal;
+import java.util.HashMap;
+
+/**
+ * Seat types for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * The ordinal of each seat type indexes per-event arrays (prices and
+ * seat inventories), so pricing and validation are array lookups.
+ */
+public enum SeatType {
+    STANDARD("Standard", new BigDecimal("1.0"), 10, 70),
+    VIP("VIP", new BigDecimal("1.5"), 15, 20),
+    PREMIUM("Premium", new BigDecimal("2.0"), 20, 10);
+
+    // Cached because values() copies the array on every call
+    private static final SeatType[] VALUES = values();
+    private static final String[] LABELS = new String[VALUES.length];
+    private static final HashMap<String, SeatType> BY_LABEL = new HashMap<>();
+
+    static {
+        for (SeatType type : VALUES) {
+            LABELS[type.ordinal()] = type.label;
+            BY_LABEL.put(type.label, type);
+        }
+    }
+
+    private final String label;
+    private final BigDecimal multiplier;
+    private final int multiplierTenths;   // Multiplier for fixed-point prices, 1.5x = 15
+    private final int seatSharePercent;   // Share of an event's seats sold in this tier
+
+    SeatType(String label, BigDecimal multiplier, int multiplierTenths, int seatSharePercent) {
+        this.label = label;
+        this.multiplier = multiplier;
+        this.multiplierTenths = multiplierTenths;
+        this.seatSharePercent = seatSharePercent;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public BigDecimal getMultiplier() {
+        return multiplier;
+    }
+
+    public int getMultiplierTenths() {
+        return multiplierTenths;
+    }
+
+    public int getSeatSharePercent() {
+        return seatSharePercent;
+    }
+
+    /**
+     * Find a seat type by its display label
+     * @return the seat type, or null if the label is not a valid seat type
+     */
+    public static SeatType fromLabel(String label) {
+        return label == null ? null : BY_LABEL.get(label);
+    }
+
+    /**
+     * Find a seat type by ordinal without copying values()
+     */
+    public static SeatType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * All seat types, in display order
+     */
+    public static SeatType[] all() {
+        return VALUES.clone();
+    }
+
+    /**
+     * Display labels of all seat types, in display order
+     */
+    public static String[] labels() {
+        return LABELS.clone();
+    }
+
+    public static int count() {
+        return VALUES.length;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
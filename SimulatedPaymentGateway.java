@@ -0,0 +1,48 @@
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local payment gateway simulation for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Waits for the configured latency and then approves the payment, or
+ * declines it with the configured probability. No card is charged.
+ */
+public class SimulatedPaymentGateway implements PaymentGateway {
+    private final long latencyMillis;
+    private final double failureRate;
+    private final AtomicLong nextTransaction = new AtomicLong();
+
+    /**
+     * @param latencyMillis processing time of each payment
+     * @param failureRate chance (0.0 to 1.0) that a payment is declined
+     */
+    public SimulatedPaymentGateway(long latencyMillis, double failureRate) {
+        if (latencyMillis < 0 || failureRate < 0.0 || failureRate > 1.0) {
+            throw new IllegalArgumentException("Invalid latency or failure rate");
+        }
+        this.latencyMillis = latencyMillis;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public PaymentResult charge(String cardNumber, String cardHolder, BigDecimal amount) throws InterruptedException {
+        if (latencyMillis > 0) {
+            Thread.sleep(latencyMillis);
+        }
+        if (failureRate > 0.0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            return PaymentResult.declined("Payment declined by card issuer");
+        }
+        return PaymentResult.approved(String.format("TXN%08d", nextTransaction.incrementAndGet()));
+    }
+
+    // Getters
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public double getFailureRate() {
+        return failureRate;
+    }
+}
@@ -0,0 +1,241 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list snapshot for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * A read-only list whose elements never change once the snapshot exists.
+ * Writers publish a new snapshot with the next version number; readers
+ * keep using the snapshot they got, so handing one out needs no copy and
+ * no lock.
+ *
+ * Elements are kept in chunks of CHUNK_SIZE slots, so a change copies one
+ * chunk and the small chunk tables rather than the whole list, and adding
+ * at the end fills spare room no older snapshot can see. A removed element
+ * leaves its slot empty, so the slot of every other element stays the
+ * same and callers can remember it to change that element later. Changes
+ * must come from one writer at a time; null elements are not allowed.
+ */
+public final class SnapshotList<E> extends AbstractList<E> implements RandomAccess {
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;   // 1024 slots per chunk
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    // Shared by every list, so nothing adds to its arrays in place
+    private static final SnapshotList<?> EMPTY = new SnapshotList<>(new Object[0][], new int[0], 0, 0, 0,
+                                                                    new Tail(-1));
+
+    private final Object[][] chunks;   // Only the first chunkCount() are used
+    private final int[] before;        // Elements in the chunks before each chunk
+    private final int slots;           // Slots used, including emptied ones
+    private final int size;
+    private final long version;
+    private final Tail tail;           // Shared by the snapshots that may add in place
+
+    /**
+     * Slots used by the newest snapshot of a line of additions. Only that
+     * snapshot may write past its own slots into the shared arrays.
+     */
+    private static final class Tail {
+        int slots;
+
+        Tail(int slots) {
+            this.slots = slots;
+        }
+    }
+
+    private SnapshotList(Object[][] chunks, int[] before, int slots, int size, long version, Tail tail) {
+        this.chunks = chunks;
+        this.before = before;
+        this.slots = slots;
+        this.size = size;
+        this.version = version;
+        this.tail = tail;
+    }
+
+    /**
+     * Empty snapshot, version 0
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> SnapshotList<E> empty() {
+        return (SnapshotList<E>) EMPTY;
+    }
+
+    /**
+     * Next version with an element added at the end, in slot getSlotCount()
+     */
+    public SnapshotList<E> with(E element) {
+        Object[][] nextChunks = chunks;
+        int[] nextBefore = before;
+        Tail nextTail = tail;
+        int chunk = slots >>> CHUNK_SHIFT;
+        int offset = slots & CHUNK_MASK;
+        if (tail.slots != slots) {
+            // A newer snapshot has already added here - start a line of our own
+            nextChunks = chunks.clone();
+            nextBefore = before.clone();
+            if (offset != 0) {
+                nextChunks[chunk] = nextChunks[chunk].clone();
+            }
+            nextTail = new Tail(slots);
+        }
+        if (offset == 0) {
+            if (chunk == nextChunks.length) {
+                int capacity = Math.max(4, chunk * 2);
+                nextChunks = Arrays.copyOf(nextChunks, capacity);
+                nextBefore = Arrays.copyOf(nextBefore, capacity);
+            }
+            nextChunks[chunk] = new Object[CHUNK_SIZE];
+            nextBefore[chunk] = size;
+        }
+        nextChunks[chunk][offset] = element;
+        nextTail.slots = slots + 1;
+        return new SnapshotList<>(nextChunks, nextBefore, slots + 1, size + 1, version + 1, nextTail);
+    }
+
+    /**
+     * Next version with the element in a slot replaced
+     */
+    public SnapshotList<E> withSlot(int slot, E element) {
+        checkSlot(slot);
+        Object[][] nextChunks = copyChunks(slot);
+        nextChunks[slot >>> CHUNK_SHIFT][slot & CHUNK_MASK] = element;
+        return new SnapshotList<>(nextChunks, before.clone(), slots, size, version + 1, new Tail(slots));
+    }
+
+    /**
+     * Next version with the element in a slot removed; the slot stays empty
+     */
+    public SnapshotList<E> withoutSlot(int slot) {
+        checkSlot(slot);
+        Object[][] nextChunks = copyChunks(slot);
+        nextChunks[slot >>> CHUNK_SHIFT][slot & CHUNK_MASK] = null;
+        int[] nextBefore = before.clone();
+        for (int c = (slot >>> CHUNK_SHIFT) + 1; c < chunkCount(); c++) {
+            nextBefore[c]--;
+        }
+        // The copy owns its last chunk, so it can add in place from now on
+        return new SnapshotList<>(nextChunks, nextBefore, slots, size - 1, version + 1, new Tail(slots));
+    }
+
+    /** Get version, increased by every change */
+    public long getVersion() {
+        return version;
+    }
+
+    /** Get the slot the next added element goes in */
+    public int getSlotCount() {
+        return slots;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        if (slots == size) {
+            // Nothing removed - every chunk before the last is full
+            return (E) chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+        }
+        // Last chunk with fewer elements before it than the index
+        int low = 0;
+        int high = chunkCount() - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (before[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        Object[] chunk = chunks[low];
+        int skip = index - before[low];
+        for (int offset = 0; ; offset++) {
+            if (chunk[offset] != null && skip-- == 0) {
+                return (E) chunk[offset];
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int slot = nextFilled(0);
+
+            @Override
+            public boolean hasNext() {
+                return slot < slots;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (slot >= slots) {
+                    throw new NoSuchElementException();
+                }
+                E element = (E) chunks[slot >>> CHUNK_SHIFT][slot & CHUNK_MASK];
+                slot = nextFilled(slot + 1);
+                return element;
+            }
+        };
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+        for (E element : this) {
+            if (element.equals(o)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int index = 0;
+        for (E element : this) {
+            array[index++] = element;
+        }
+        return array;
+    }
+
+    private int chunkCount() {
+        return (slots + CHUNK_MASK) >>> CHUNK_SHIFT;
+    }
+
+    private int nextFilled(int slot) {
+        while (slot < slots && chunks[slot >>> CHUNK_SHIFT][slot & CHUNK_MASK] == null) {
+            slot++;
+        }
+        return slot;
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= slots || chunks[slot >>> CHUNK_SHIFT][slot & CHUNK_MASK] == null) {
+            throw new IllegalArgumentException("No element in slot " + slot);
+        }
+    }
+
+    // Chunk table with the chunk of the slot and the partly filled last chunk copied
+    private Object[][] copyChunks(int slot) {
+        Object[][] next = chunks.clone();
+        next[slot >>> CHUNK_SHIFT] = next[slot >>> CHUNK_SHIFT].clone();
+        int last = chunkCount() - 1;
+        if ((slots & CHUNK_MASK) != 0 && last != slot >>> CHUNK_SHIFT) {
+            next[last] = next[last].clone();
+        }
+        return next;
+    }
+}
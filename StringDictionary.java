@@ -0,0 +1,132 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * String dictionary for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Gives every distinct string a small int code so a repeated value is kept
+ * in memory once, however many bookings use it. Values are kept as UTF-8
+ * bytes in open-addressing tables, without String or map entry objects,
+ * which keeps the cost of a distinct value close to its length. The
+ * dictionary is split into stripes by hash so concurrent writers rarely
+ * wait for each other; decoding never locks.
+ */
+public class StringDictionary {
+    public static final int NULL_CODE = -1;
+
+    private static final int STRIPE_BITS = 4;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public StringDictionary() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Get the code for a string, adding it if it is new
+     */
+    public int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int hash = mix(Arrays.hashCode(bytes));
+        int stripe = hash & (STRIPES - 1);
+        return (stripes[stripe].encode(bytes, hash) << STRIPE_BITS) | stripe;
+    }
+
+    /**
+     * Get the string for a code returned by encode
+     */
+    public String decode(int code) {
+        if (code == NULL_CODE) {
+            return null;
+        }
+        return new String(bytes(code), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get the UTF-8 bytes for a code, or null for NULL_CODE. The array is
+     * the dictionary's own copy and must not be changed.
+     */
+    byte[] bytes(int code) {
+        return code == NULL_CODE ? null : stripes[code & (STRIPES - 1)].values[code >>> STRIPE_BITS];
+    }
+
+    /** Get number of distinct strings */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    private static int mix(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * One lock's worth of the dictionary: values by local code, and a
+     * hash table of local code + 1 (0 = empty) for finding them again
+     */
+    private static final class Stripe {
+        volatile byte[][] values = new byte[64][];
+        private int[] slots = new int[128];
+        private int[] hashes = new int[64];
+        private int size;
+
+        synchronized int encode(byte[] bytes, int hash) {
+            int mask = slots.length - 1;
+            for (int i = (hash >>> STRIPE_BITS) & mask; ; i = (i + 1) & mask) {
+                int entry = slots[i];
+                if (entry == 0) {
+                    return add(bytes, hash, i);
+                }
+                if (hashes[entry - 1] == hash && Arrays.equals(values[entry - 1], bytes)) {
+                    return entry - 1;
+                }
+            }
+        }
+
+        private int add(byte[] bytes, int hash, int slot) {
+            int code = size;
+            if (code == hashes.length) {
+                hashes = Arrays.copyOf(hashes, code * 2);
+                byte[][] grown = Arrays.copyOf(values, code * 2);
+                grown[code] = bytes;
+                values = grown;
+            } else {
+                values[code] = bytes;
+                values = values;   // Volatile write publishes the new element to decoders
+            }
+            hashes[code] = hash;
+            slots[slot] = code + 1;
+            size++;
+            if (size * 2 > slots.length) {
+                rehash(slots.length * 2);
+            }
+            return code;
+        }
+
+        private void rehash(int capacity) {
+            int[] rehashed = new int[capacity];
+            int mask = capacity - 1;
+            for (int code = 0; code < size; code++) {
+                int i = (hashes[code] >>> STRIPE_BITS) & mask;
+                while (rehashed[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                rehashed[i] = code + 1;
+            }
+            slots = rehashed;
+        }
+    }
+}
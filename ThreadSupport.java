@@ -0,0 +1,66 @@
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread helpers for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * The project builds for Java 17, where virtual threads do not exist yet.
+ * On a Java 21+ runtime the per-task virtual thread executor is used
+ * (looked up by reflection so the code still compiles for 17); older
+ * runtimes get a fixed pool of daemon platform threads instead.
+ */
+public final class ThreadSupport {
+    private static final Method VIRTUAL_EXECUTOR = findVirtualExecutor();
+
+    private ThreadSupport() {
+    }
+
+    /**
+     * Executor that runs each task on its own virtual thread when the
+     * runtime supports it
+     * @param name prefix for platform thread names in the fallback pool
+     * @param platformThreads size of the fallback pool
+     */
+    public static ExecutorService newTaskExecutor(String name, int platformThreads) {
+        if (VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // Fall back to platform threads below
+            }
+        }
+        return Executors.newFixedThreadPool(platformThreads, daemonThreads(name));
+    }
+
+    /**
+     * True if newTaskExecutor hands out virtual threads on this runtime
+     */
+    public static boolean hasVirtualThreads() {
+        return VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * Thread factory for named daemon threads, so background work never
+     * keeps the application alive
+     */
+    public static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Method findVirtualExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
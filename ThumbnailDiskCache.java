@@ -0,0 +1,158 @@
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * On-disk thumbnail cache for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Keeps scaled event images between runs so a cold start reads small
+ * thumbnail files instead of decoding multi-megabyte photos. Entries are
+ * keyed by the source file's absolute path, modification time and size
+ * plus the thumbnail size, so editing or replacing a photo simply misses
+ * the cache.
+ *
+ * A thumbnail file holds raw ARGB pixels after a short header, so reading
+ * one is a single file read and an array copy: no image decoder involved.
+ *
+ * Layout: magic int, version int, key length short + UTF-8 key, width int,
+ * height int, then width * height ARGB ints, all little-endian.
+ */
+public class ThumbnailDiskCache {
+    private static final int MAGIC = 0x4D54_5448;   // "MTTH"
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".thumb";
+
+    private final Path directory;
+
+    public ThumbnailDiskCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Read a cached thumbnail
+     * @return the thumbnail, or null if there is none for the source file as it is now
+     */
+    public BufferedImage read(String sourcePath, int width, int height) {
+        String key = key(sourcePath, width, height);
+        if (key == null) {
+            return null;
+        }
+        Path file = fileFor(key);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Read the whole file
+            }
+            buffer.flip();
+            return decode(buffer, key, width, height);
+        } catch (IOException | RuntimeException e) {
+            return null;   // Missing or damaged entry - treat as a miss
+        }
+    }
+
+    /**
+     * Save a thumbnail for the source file as it is now. Failures are
+     * reported and otherwise ignored; the cache is only an optimization.
+     */
+    public void write(String sourcePath, BufferedImage thumbnail) {
+        String key = key(sourcePath, thumbnail.getWidth(), thumbnail.getHeight());
+        if (key == null) {
+            return;
+        }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int[] pixels = argbPixels(thumbnail);
+        ByteBuffer buffer = ByteBuffer.allocate(4 + 4 + 2 + keyBytes.length + 4 + 4 + pixels.length * 4)
+                                      .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putShort((short) keyBytes.length).put(keyBytes);
+        buffer.putInt(thumbnail.getWidth()).putInt(thumbnail.getHeight());
+        buffer.asIntBuffer().put(pixels);
+        buffer.rewind();
+
+        Path file = fileFor(key);
+        try {
+            Files.createDirectories(directory);
+            // Write a temporary file first so readers never see half a thumbnail
+            Path temporary = Files.createTempFile(directory, "thumb", ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+                try {
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            System.out.println("Could not cache thumbnail for " + sourcePath + ": " + e.getMessage());
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    // Cache internals
+
+    private static BufferedImage decode(ByteBuffer buffer, String key, int width, int height) {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            return null;
+        }
+        byte[] keyBytes = new byte[buffer.getShort()];
+        buffer.get(keyBytes);
+        if (!key.equals(new String(keyBytes, StandardCharsets.UTF_8))
+                || buffer.getInt() != width || buffer.getInt() != height
+                || buffer.remaining() != width * height * 4) {
+            return null;   // Another key with the same file name, or a damaged file
+        }
+        int[] pixels = new int[width * height];
+        buffer.asIntBuffer().get(pixels);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.getRaster().setDataElements(0, 0, width, height, pixels);
+        return image;
+    }
+
+    private static int[] argbPixels(BufferedImage image) {
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+    // Source path, modification time and size plus thumbnail size; null if the source is gone
+    private static String key(String sourcePath, int width, int height) {
+        if (sourcePath == null) {
+            return null;
+        }
+        File source = new File(sourcePath).getAbsoluteFile();
+        long modified = source.lastModified();
+        if (modified == 0L) {
+            return null;
+        }
+        return source.getPath() + '|' + modified + '|' + source.length() + '|' + width + 'x' + height;
+    }
+
+    private Path fileFor(String key) {
+        // Short stable file name; the full key inside the file settles collisions
+        long hash = 1125899906842597L;
+        for (int i = 0; i < key.length(); i++) {
+            hash = 31 * hash + key.charAt(i);
+        }
+        return directory.resolve(Long.toHexString(hash) + SUFFIX);
+    }
+}
@@ -0,0 +1,67 @@
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Booking timestamp formatting for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Bookings store their time as epoch milliseconds and are only turned
+ * into text when shown. The text has second granularity, so the last
+ * rendered second is cached and every timestamp within that second gets
+ * the same String back. The cache is one immutable object behind a
+ * volatile field, which makes format safe to call from any thread.
+ */
+public final class TimestampFormat {
+    public static final String PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(PATTERN);
+
+    private static volatile Rendered last = new Rendered(Long.MIN_VALUE, null, null);
+
+    private TimestampFormat() {
+    }
+
+    /**
+     * Format epoch milliseconds as "yyyy-MM-dd HH:mm:ss" in the system time zone
+     */
+    public static String format(long epochMillis) {
+        long second = Math.floorDiv(epochMillis, 1000L);
+        ZoneId zone = ZoneId.systemDefault();
+        Rendered rendered = last;
+        if (rendered.second == second && rendered.zone.equals(zone)) {
+            return rendered.text;
+        }
+        String text = FORMATTER.format(LocalDateTime.ofInstant(Instant.ofEpochSecond(second), zone));
+        last = new Rendered(second, zone, text);
+        return text;
+    }
+
+    /**
+     * Parse text written by format, e.g. booking dates saved by older versions
+     * @return epoch milliseconds, or 0 if the text is not a valid timestamp
+     */
+    public static long parse(String text) {
+        try {
+            return LocalDateTime.parse(text, FORMATTER).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        } catch (DateTimeParseException | NullPointerException e) {
+            System.out.println("Invalid booking date: " + text);
+            return 0L;
+        }
+    }
+
+    // One rendered second; never modified after construction
+    private static final class Rendered {
+        final long second;
+        final ZoneId zone;
+        final String text;
+
+        Rendered(long second, ZoneId zone, String text) {
+            this.second = second;
+            this.zone = zone;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * Schedules many timeouts with O(1) cost per insert and per tick, instead
+ * of one timer per timeout. Time is counted in ticks. Level 0 has one slot
+ * per tick for the next 64 ticks, level 1 one slot per 64 ticks, and so
+ * on; when a lower level wraps around, the next slot of the level above
+ * is cascaded down. Entries are linked through their own next field, so
+ * scheduling allocates nothing, and cancelled entries are simply skipped
+ * when their slot comes due.
+ *
+ * All methods are thread-safe. The expiry callback runs outside the lock.
+ */
+public class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;   // 64 slots per level
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;                // 64^6 ticks ahead at most
+
+    /** Maximum number of ticks an entry can be scheduled ahead */
+    public static final long MAX_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /**
+     * Something that can be scheduled on the wheel
+     */
+    public abstract static class Entry {
+        long deadlineTick;
+        Entry next;
+
+        /** Get the tick this entry expires at */
+        public long getDeadlineTick() {
+            return deadlineTick;
+        }
+
+        /** True if the entry no longer needs to expire, e.g. it was cancelled */
+        protected abstract boolean isDone();
+    }
+
+    private final Entry[][] slots = new Entry[LEVELS][SLOTS];
+    private long currentTick;
+    private int size;   // Entries in the wheel, including cancelled ones not yet skipped
+
+    public TimingWheel(long startTick) {
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Schedule an entry to expire at the given tick
+     * @return false if the tick has already passed; the entry is not scheduled
+     */
+    public synchronized boolean schedule(Entry entry, long deadlineTick) {
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+        if (deadlineTick - currentTick > MAX_TICKS) {
+            throw new IllegalArgumentException("Timeout is too far ahead: " + (deadlineTick - currentTick) + " ticks");
+        }
+        entry.deadlineTick = deadlineTick;
+        insert(entry);
+        size++;
+        return true;
+    }
+
+    /**
+     * Advance the wheel to the given tick and hand every entry that is due
+     * and not done to the callback
+     * @return number of entries expired
+     */
+    public int advanceTo(long tick, Consumer<Entry> onExpired) {
+        Entry expired = null;
+        synchronized (this) {
+            while (currentTick < tick) {
+                currentTick++;
+                cascade();
+
+                int slot = (int) (currentTick & SLOT_MASK);
+                Entry entry = slots[0][slot];
+                slots[0][slot] = null;
+                while (entry != null) {
+                    Entry next = entry.next;
+                    size--;
+                    if (!entry.isDone()) {
+                        entry.next = expired;
+                        expired = entry;
+                    } else {
+                        entry.next = null;
+                    }
+                    entry = next;
+                }
+            }
+        }
+
+        int count = 0;
+        while (expired != null) {
+            Entry next = expired.next;
+            expired.next = null;
+            onExpired.accept(expired);
+            expired = next;
+            count++;
+        }
+        return count;
+    }
+
+    /** Get the tick the wheel has advanced to */
+    public synchronized long getCurrentTick() {
+        return currentTick;
+    }
+
+    /** Get number of scheduled entries, counting cancelled ones not yet reached */
+    public synchronized int size() {
+        return size;
+    }
+
+    // Put an entry on the lowest level whose range still covers its deadline
+    private void insert(Entry entry) {
+        int level = 0;
+        while (level < LEVELS - 1
+                && (entry.deadlineTick >>> (SLOT_BITS * (level + 1))) != (currentTick >>> (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((entry.deadlineTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        entry.next = slots[level][slot];
+        slots[level][slot] = entry;
+    }
+
+    // When lower levels wrap, move the now-current slot of each upper level down
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                return;
+            }
+            int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Entry entry = slots[level][slot];
+            slots[level][slot] = null;
+            while (entry != null) {
+                Entry next = entry.next;
+                if (entry.isDone()) {
+                    entry.next = null;
+                    size--;
+                } else {
+                    insert(entry);
+                }
+                entry = next;
+            }
+        }
+    }
+}
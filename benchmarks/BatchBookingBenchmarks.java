@@ -0,0 +1,92 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batch booking benchmarks: createBookings versus a createBooking loop
+ * Academic project for BIT 4043 OOP course
+ *
+ * One operation books a whole batch of BATCH_SIZE requests, either with
+ * one createBookings call or one createBooking call per request, both in
+ * memory and with a group-commit journal.
+ */
+public class BatchBookingBenchmarks {
+    private static final int BATCH_SIZE = 100;
+
+    private BatchBookingBenchmarks() {
+    }
+
+    static List<BenchmarkCase> cases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        for (boolean journaled : new boolean[] {false, true}) {
+            String store = journaled ? "journal" : "memory";
+            cases.add(new BatchCase("BookingController.createBookingLoop", journaled, false)
+                    .param("batch", BATCH_SIZE).param("store", store));
+            cases.add(new BatchCase("BookingController.createBookings", journaled, true)
+                    .param("batch", BATCH_SIZE).param("store", store));
+        }
+        return cases;
+    }
+
+    private static class BatchCase extends BenchmarkCase {
+        private final boolean journaled;
+        private final boolean batched;
+        private final List<BookingRequest> requests = new ArrayList<>(BATCH_SIZE);
+        private Path directory;
+        private BookingController controller;
+
+        BatchCase(String name, boolean journaled, boolean batched) {
+            super(name);
+            this.journaled = journaled;
+            this.batched = batched;
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                requests.add(new BookingRequest("Customer " + i, "customer" + i + "@example.com", "0123456789",
+                        BookingControllerBenchmarks.BENCHMARK_EVENT_ID, SeatType.fromOrdinal(i % SeatType.count()),
+                        1 + (i & 3)));
+            }
+        }
+
+        @Override
+        public void setUpIteration() throws IOException {
+            // Fresh controller each iteration so bookings do not pile up across iterations
+            closeController();
+            if (journaled) {
+                directory = Files.createTempDirectory("batch-bench");
+                controller = new BookingController(directory, BookingJournal.DurabilityMode.GROUP_COMMIT);
+            } else {
+                controller = new BookingController();
+            }
+            controller.addEvent(BookingControllerBenchmarks.benchmarkEvent());
+        }
+
+        @Override
+        public long operation(int threadIndex) {
+            if (batched) {
+                return controller.createBookings(requests).size();
+            }
+            long count = 0;
+            for (BookingRequest request : requests) {
+                count += controller.createBooking(request.getCustomerName(), request.getCustomerEmail(),
+                        request.getCustomerPhone(), request.getEventId(), request.getSeatType(),
+                        request.getQuantity()).getId();
+            }
+            return count;
+        }
+
+        @Override
+        public void tearDown() throws IOException {
+            closeController();
+        }
+
+        private void closeController() throws IOException {
+            if (controller != null) {
+                controller.close();
+                controller = null;
+            }
+            PersistenceBenchmarks.deleteRecursively(directory);
+            directory = null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One benchmark for the Mini Ticket System benchmark harness
+ * Academic project for BIT 4043 OOP course
+ *
+ * Throughput benchmarks call operation() in a loop from one or more
+ * threads for a fixed time. Single-shot benchmarks call it once per
+ * iteration and report how long it took.
+ */
+public abstract class BenchmarkCase {
+    private final String name;
+    private final Map<String, String> params;
+
+    protected BenchmarkCase(String name) {
+        this.name = name;
+        this.params = new LinkedHashMap<>();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, String> getParams() {
+        return Collections.unmodifiableMap(params);
+    }
+
+    /**
+     * Add a parameter shown next to the benchmark name in results
+     */
+    public BenchmarkCase param(String key, Object value) {
+        params.put(key, String.valueOf(value));
+        return this;
+    }
+
+    public boolean isSingleShot() {
+        return false;
+    }
+
+    /**
+     * False for benchmarks that only make sense on one thread
+     */
+    public boolean isMultiThreaded() {
+        return true;
+    }
+
+    /**
+     * Called once before the warmup of each thread count
+     */
+    public void setUp(int threads) throws Exception {
+    }
+
+    /**
+     * Called before every warmup and measurement iteration
+     */
+    public void setUpIteration() throws Exception {
+    }
+
+    /**
+     * The measured operation. The result is folded into a sink so the
+     * JIT cannot remove the work as dead code.
+     * @param threadIndex 0-based index of the calling benchmark thread
+     */
+    public abstract long operation(int threadIndex) throws Exception;
+
+    /**
+     * Called once after the measurement of each thread count
+     */
+    public void tearDown() throws Exception {
+    }
+
+    /**
+     * Extra numbers to report after tearDown, for example memory footprint
+     */
+    public Map<String, Double> secondaryMetrics() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Unit of each secondary metric, by metric name
+     */
+    public String secondaryMetricUnit(String metric) {
+        return "";
+    }
+}
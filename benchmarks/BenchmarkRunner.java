@@ -0,0 +1,394 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmark harness for Mini Ticket System
+ * Academic project for BIT 4043 OOP course
+ *
+ * JMH refuses benchmark classes in the default package, which is where all
+ * of this project's classes live, so this is a small harness in the same
+ * spirit: fixed-time throughput iterations after a warmup, run on one and
+ * on many threads, with allocation per operation measured per thread.
+ * Results are written as JSON in the JMH result format, so existing JMH
+ * tooling can read and compare them.
+ *
+ * Usage: java -cp target/mini-ticket-system-3.0.jar BenchmarkRunner
+ *            [-wi warmups] [-i iterations] [-r seconds] [-t 1,8] [-rff results.json] [regex]
+ */
+public class BenchmarkRunner {
+    private int warmupIterations = 3;
+    private int measurementIterations = 5;
+    private double iterationSeconds = 1.0;
+    private int[] threadCounts = {1, Runtime.getRuntime().availableProcessors()};
+    private String resultFile = "benchmark-results.json";
+    private Pattern filter = Pattern.compile(".*");
+
+    // Keeps results of operation() alive so the JIT cannot drop the work
+    private static final AtomicLong sink = new AtomicLong();
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkRunner runner = new BenchmarkRunner();
+        runner.parseArguments(args);
+        runner.runAll(allBenchmarks());
+    }
+
+    /**
+     * Every benchmark in the harness
+     */
+    static List<BenchmarkCase> allBenchmarks() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        cases.addAll(BookingControllerBenchmarks.cases());
+        cases.addAll(EventLookupBenchmarks.cases());
+        cases.addAll(EventSearchBenchmarks.cases());
+        cases.addAll(EventQueryBenchmarks.cases());
+        cases.addAll(SeatReservationBenchmarks.cases());
+        cases.addAll(PricingBenchmarks.cases());
+        cases.addAll(PersistenceBenchmarks.cases());
+        cases.addAll(SeatMapBenchmarks.cases());
+        cases.addAll(BatchBookingBenchmarks.cases());
+        cases.addAll(BookingStoreBenchmarks.cases());
+        cases.addAll(BookingLookupBenchmarks.cases());
+        cases.addAll(ImageBenchmarks.cases());
+        cases.addAll(HeaderBenchmarks.cases());
+        cases.addAll(HomePanelBenchmarks.cases());
+        return cases;
+    }
+
+    private void parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-wi":
+                    warmupIterations = Integer.parseInt(args[++i]);
+                    break;
+                case "-i":
+                    measurementIterations = Integer.parseInt(args[++i]);
+                    break;
+                case "-r":
+                    iterationSeconds = Double.parseDouble(args[++i]);
+                    break;
+                case "-t":
+                    String[] parts = args[++i].split(",");
+                    threadCounts = new int[parts.length];
+                    for (int p = 0; p < parts.length; p++) {
+                        threadCounts[p] = Integer.parseInt(parts[p].trim());
+                    }
+                    break;
+                case "-rff":
+                    resultFile = args[++i];
+                    break;
+                default:
+                    filter = Pattern.compile(args[i]);
+                    break;
+            }
+        }
+    }
+
+    private void runAll(List<BenchmarkCase> cases) throws Exception {
+        List<Result> results = new ArrayList<>();
+        for (BenchmarkCase benchmark : cases) {
+            if (!filter.matcher(benchmark.getName()).find()) {
+                continue;
+            }
+            if (benchmark.isSingleShot()) {
+                results.add(runSingleShot(benchmark));
+            } else {
+                for (int threads : threadCounts) {
+                    if (threads > 1 && !benchmark.isMultiThreaded()) {
+                        continue;
+                    }
+                    results.add(runThroughput(benchmark, threads));
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.println(String.format(Locale.ROOT, "%-60s %4s %6s %16s %12s %10s",
+                "Benchmark", "Thr", "Mode", "Score", "Error", "Units"));
+        for (Result result : results) {
+            System.out.println(String.format(Locale.ROOT, "%-60s %4d %6s %16.3f %12.3f %10s",
+                    result.label(), result.threads, result.mode, result.score, result.error, result.unit));
+            for (Map.Entry<String, Double> metric : result.secondary.entrySet()) {
+                System.out.println(String.format(Locale.ROOT, "%-60s %4s %6s %16.3f %12s %10s",
+                        "  " + metric.getKey(), "", "", metric.getValue(), "", result.secondaryUnits.get(metric.getKey())));
+            }
+        }
+        writeJson(results);
+        System.out.println("\nResults written to " + resultFile);
+    }
+
+    private Result runThroughput(BenchmarkCase benchmark, int threads) throws Exception {
+        System.out.println("# " + benchmark.getName() + " " + benchmark.getParams() + ", " + threads + " thread(s)");
+        benchmark.setUp(threads);
+        List<Double> scores = new ArrayList<>();
+        double allocatedPerOp = Double.NaN;
+        try {
+            for (int i = 0; i < warmupIterations + measurementIterations; i++) {
+                benchmark.setUpIteration();
+                long[] totals = runIteration(benchmark, threads);
+                double opsPerSecond = totals[0] / (totals[2] / 1e9);
+                boolean warmup = i < warmupIterations;
+                System.out.println(String.format(Locale.ROOT, "%s %d: %.3f ops/s",
+                        warmup ? "Warmup" : "Iteration", warmup ? i + 1 : i - warmupIterations + 1, opsPerSecond));
+                if (!warmup) {
+                    scores.add(opsPerSecond);
+                    if (totals[1] >= 0 && totals[0] > 0) {
+                        allocatedPerOp = (double) totals[1] / totals[0];
+                    }
+                }
+            }
+        } finally {
+            benchmark.tearDown();
+        }
+
+        Result result = new Result(benchmark, "thrpt", threads, scores, "ops/s");
+        if (!Double.isNaN(allocatedPerOp)) {
+            result.addSecondary("·gc.alloc.rate.norm", allocatedPerOp, "B/op");
+        }
+        result.addSecondaries(benchmark);
+        return result;
+    }
+
+    /**
+     * @return {operations, bytes allocated or -1, elapsed nanos}
+     */
+    private long[] runIteration(BenchmarkCase benchmark, int threads) throws Exception {
+        long[] operations = new long[threads];
+        long[] allocated = new long[threads];
+        Throwable[] failure = new Throwable[1];
+        CyclicBarrier start = new CyclicBarrier(threads + 1);
+        CyclicBarrier stop = new CyclicBarrier(threads + 1);
+        StopFlag flag = new StopFlag();
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int threadIndex = t;
+            workers[t] = new Thread(() -> {
+                long ops = 0;
+                long localSink = 0;
+                try {
+                    start.await();
+                    long allocatedBefore = allocatedBytes();
+                    while (!flag.stopped) {
+                        localSink += benchmark.operation(threadIndex);
+                        ops++;
+                    }
+                    long allocatedAfter = allocatedBytes();
+                    allocated[threadIndex] = allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore;
+                } catch (Throwable e) {
+                    synchronized (failure) {
+                        failure[0] = e;
+                    }
+                    flag.stopped = true;
+                } finally {
+                    operations[threadIndex] = ops;
+                    sink.addAndGet(localSink);
+                    try {
+                        stop.await();
+                    } catch (Exception ignored) {
+                        // The iteration is over either way
+                    }
+                }
+            }, "benchmark-" + t);
+            workers[t].start();
+        }
+
+        start.await();
+        long begin = System.nanoTime();
+        long deadline = begin + (long) (iterationSeconds * 1e9);
+        while (!flag.stopped && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        flag.stopped = true;
+        long elapsed = System.nanoTime() - begin;
+        stop.await();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        if (failure[0] != null) {
+            throw new IllegalStateException(benchmark.getName() + " failed", failure[0]);
+        }
+
+        long totalOps = 0;
+        long totalAllocated = 0;
+        for (int t = 0; t < threads; t++) {
+            totalOps += operations[t];
+            totalAllocated = allocated[t] < 0 || totalAllocated < 0 ? -1 : totalAllocated + allocated[t];
+        }
+        return new long[]{totalOps, totalAllocated, elapsed};
+    }
+
+    private Result runSingleShot(BenchmarkCase benchmark) throws Exception {
+        System.out.println("# " + benchmark.getName() + " " + benchmark.getParams() + ", single shot");
+        benchmark.setUp(1);
+        List<Double> times = new ArrayList<>();
+        try {
+            int warmups = Math.min(1, warmupIterations);
+            for (int i = 0; i < warmups + measurementIterations; i++) {
+                benchmark.setUpIteration();
+                long begin = System.nanoTime();
+                sink.addAndGet(benchmark.operation(0));
+                double millis = (System.nanoTime() - begin) / 1e6;
+                boolean warmup = i < warmups;
+                System.out.println(String.format(Locale.ROOT, "%s %d: %.3f ms",
+                        warmup ? "Warmup" : "Iteration", warmup ? i + 1 : i - warmups + 1, millis));
+                if (!warmup) {
+                    times.add(millis);
+                }
+            }
+        } finally {
+            benchmark.tearDown();
+        }
+        Result result = new Result(benchmark, "ss", 1, times, "ms/op");
+        result.addSecondaries(benchmark);
+        return result;
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    private void writeJson(List<Result> results) throws IOException {
+        try (Writer out = Files.newBufferedWriter(Paths.get(resultFile), StandardCharsets.UTF_8)) {
+            out.write("[\n");
+            for (int r = 0; r < results.size(); r++) {
+                Result result = results.get(r);
+                out.write("    {\n");
+                out.write("        \"benchmark\" : " + quote(result.name) + ",\n");
+                out.write("        \"mode\" : " + quote(result.mode) + ",\n");
+                out.write("        \"threads\" : " + result.threads + ",\n");
+                out.write("        \"forks\" : 1,\n");
+                out.write("        \"jvm\" : " + quote(System.getProperty("java.home")) + ",\n");
+                out.write("        \"jdkVersion\" : " + quote(System.getProperty("java.version")) + ",\n");
+                out.write("        \"warmupIterations\" : " + warmupIterations + ",\n");
+                out.write("        \"measurementIterations\" : " + result.rawData.size() + ",\n");
+                out.write("        \"measurementTime\" : " + quote(iterationSeconds + " s") + ",\n");
+                if (!result.params.isEmpty()) {
+                    out.write("        \"params\" : {\n");
+                    int p = 0;
+                    for (Map.Entry<String, String> param : result.params.entrySet()) {
+                        out.write("            " + quote(param.getKey()) + " : " + quote(param.getValue())
+                                + (++p < result.params.size() ? ",\n" : "\n"));
+                    }
+                    out.write("        },\n");
+                }
+                out.write("        \"primaryMetric\" : {\n");
+                out.write("            \"score\" : " + number(result.score) + ",\n");
+                out.write("            \"scoreError\" : " + number(result.error) + ",\n");
+                out.write("            \"scoreUnit\" : " + quote(result.unit) + ",\n");
+                out.write("            \"rawData\" : [\n                [\n");
+                for (int i = 0; i < result.rawData.size(); i++) {
+                    out.write("                    " + number(result.rawData.get(i))
+                            + (i + 1 < result.rawData.size() ? ",\n" : "\n"));
+                }
+                out.write("                ]\n            ]\n        },\n");
+                out.write("        \"secondaryMetrics\" : {\n");
+                int m = 0;
+                for (Map.Entry<String, Double> metric : result.secondary.entrySet()) {
+                    out.write("            " + quote(metric.getKey()) + " : {\n");
+                    out.write("                \"score\" : " + number(metric.getValue()) + ",\n");
+                    out.write("                \"scoreError\" : \"NaN\",\n");
+                    out.write("                \"scoreUnit\" : " + quote(result.secondaryUnits.get(metric.getKey())) + "\n");
+                    out.write("            }" + (++m < result.secondary.size() ? ",\n" : "\n"));
+                }
+                out.write("        }\n");
+                out.write("    }" + (r + 1 < results.size() ? ",\n" : "\n"));
+            }
+            out.write("]\n");
+        }
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static String number(double value) {
+        return Double.isNaN(value) || Double.isInfinite(value) ? "\"NaN\"" : String.format(Locale.ROOT, "%.6f", value);
+    }
+
+    private static class StopFlag {
+        volatile boolean stopped;
+    }
+
+    /**
+     * Summary of one benchmark at one thread count
+     */
+    private static class Result {
+        final String name;
+        final Map<String, String> params;
+        final String mode;
+        final int threads;
+        final List<Double> rawData;
+        final String unit;
+        final double score;
+        final double error;
+        final Map<String, Double> secondary = new LinkedHashMap<>();
+        final Map<String, String> secondaryUnits = new LinkedHashMap<>();
+
+        Result(BenchmarkCase benchmark, String mode, int threads, List<Double> rawData, String unit) {
+            this.name = benchmark.getName();
+            this.params = benchmark.getParams();
+            this.mode = mode;
+            this.threads = threads;
+            this.rawData = rawData;
+            this.unit = unit;
+
+            double sum = 0;
+            for (double value : rawData) {
+                sum += value;
+            }
+            this.score = rawData.isEmpty() ? Double.NaN : sum / rawData.size();
+            double squares = 0;
+            for (double value : rawData) {
+                squares += (value - score) * (value - score);
+            }
+            // Half-width of a 99.9% confidence interval (normal approximation)
+            this.error = rawData.size() < 2 ? Double.NaN
+                    : 3.29 * Math.sqrt(squares / (rawData.size() - 1)) / Math.sqrt(rawData.size());
+        }
+
+        void addSecondary(String metric, double value, String unit) {
+            secondary.put(metric, value);
+            secondaryUnits.put(metric, unit);
+        }
+
+        void addSecondaries(BenchmarkCase benchmark) {
+            for (Map.Entry<String, Double> metric : benchmark.secondaryMetrics().entrySet()) {
+                addSecondary(metric.getKey(), metric.getValue(), benchmark.secondaryMetricUnit(metric.getKey()));
+            }
+        }
+
+        String label() {
+            return params.isEmpty() ? name : name + params;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmarks for the BookingController hot paths
+ * Academic project for BIT 4043 OOP course
+ */
+public class BookingControllerBenchmarks {
+    static final int BENCHMARK_EVENT_ID = 1000;
+    private static final int SAMPLE_EVENT_COUNT = 12;
+
+    private BookingControllerBenchmarks() {
+    }
+
+    static List<BenchmarkCase> cases() {
+        return Arrays.asList(createBooking(), getEventById(), calculatePrice(), getAllEvents(),
+                getAllEventsWhileWriting(), getAllBookingsWhileWriting(), receipt());
+    }
+
+    /**
+     * An event big enough that benchmarks never sell it out
+     */
+    static Event benchmarkEvent() {
+        return new Event(BENCHMARK_EVENT_ID, "Benchmark Arena Night", "2025-12-31", "Benchmark Arena",
+                "Event used by the benchmark harness", new BigDecimal("50.00"), Integer.MAX_VALUE,
+                "images/rock_concert.jpg");
+    }
+
+    private static BenchmarkCase createBooking() {
+        return new BenchmarkCase("BookingController.createBooking") {
+            private BookingController controller;
+
+            @Override
+            public void setUpIteration() {
+                // Fresh controller each iteration so bookings do not pile up across iterations
+                controller = new BookingController();
+                controller.addEvent(benchmarkEvent());
+            }
+
+            @Override
+            public long operation(int threadIndex) {
+                return controller.createBooking("Benchmark Customer", "customer@example.com", "0123456789",
+                        BENCHMARK_EVENT_ID, SeatType.STANDARD, 1).getId();
+            }
+        };
+    }
+
+    private static BenchmarkCase getEventById() {
+        return new BenchmarkCase("BookingController.getEventById") {
+            private BookingController controller;
+            private int[] cursors;
+
+            @Override
+            public void setUp(int threads) {
+                controller = new BookingController();
+                cursors = new int[threads * 16]; // 16 ints apart to keep threads off each other's cache lines
+            }
+
+            @Override
+            public long operation(int threadIndex) {
+                int slot = threadIndex * 16;
+                int eventId = 1 + (cursors[slot]++ % SAMPLE_EVENT_COUNT);
+                return controller.getEventById(eventId).getTotalSeats();
+            }
+        };
+    }
+
+    private static BenchmarkCase calculatePrice() {
+        return new BenchmarkCase("BookingController.calculatePrice") {
+            private BookingController controller;
+            private int[] cursors;
+
+            @Override
+            public void setUp(int threads) {
+                controller = new BookingController();
+                cursors = new int[threads * 16];
+            }
+
+            @Override
+            public long operation(int threadIndex) {
+                int step = cursors[threadIndex * 16]++;
+                SeatType seatType = SeatType.fromOrdinal(step % SeatType.count());
+                return controller.calculatePrice(1 + (step % SAMPLE_EVENT_COUNT), seatType, 1 + (step & 7)).scale();
+            }
+        };
+    }
+
+    private static BenchmarkCase getAllEvents() {
+        return new BenchmarkCase("BookingController.getAllEvents") {
+            private BookingController controller;
+
+            @Override
+            public void setUp(int threads) {
+                controller = new BookingController();
+            }
+
+            @Override
+            public long operation(int threadIndex) {
+                return controller.getAllEvents().size();
+            }
+        };
+    }
+
+    /**
+     * Readers walk the catalog while a background thread replaces an event
+     * every 10 microseconds
+     */
+    private static BenchmarkCase getAllEventsWhileWriting() {
+        return new WhileWriting("BookingController.getAllEvents.concurrentWriter", TimeUnit.MICROSECONDS.toNanos(10)) {
+            @Override
+            void write() {
+                controller.addEvent(benchmarkEvent());
+            }
+
+            @Override
+            public long operation(int threadIndex) {
+                long seats = 0;
+                for (Event event : controller.getAllEvents()) {
+                    seats += event.getTotalSeats();
+                }
+                return seats;
+            }
+        };
+    }
+
+    /**
+     * Readers walk all bookings while a background thread books a seat
+     * every millisecond
+     */
+    private static BenchmarkCase getAllBookingsWhileWriting() {
+        return new WhileWriting("BookingController.getAllBookings.concurrentWriter", TimeUnit.MILLISECONDS.toNanos(1)) {
+            @Override
+            void write() {
+                controller.createBooking("Benchmark Customer", "customer@example.com", "0123456789",
+                        BENCHMARK_EVENT_ID, SeatType.STANDARD, 1);
+            }
+
+            @Override
+            public long operation(int threadIndex) {
+                long seats = 0;
+                for (Booking booking : controller.getAllBookings()) {
+                    seats += booking.getQuantity();
+                }
+                return seats;
+            }
+        };
+    }
+
+    /**
+     * Measures readers only; the writer runs on its own thread for the
+     * whole benchmark
+     */
+    private abstract static class WhileWriting extends BenchmarkCase {
+        BookingController controller;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final long writeIntervalNanos;
+        private Thread writer;
+
+        WhileWriting(String name, long writeIntervalNanos) {
+            super(name);
+            this.writeIntervalNanos = writeIntervalNanos;
+        }
+
+        abstract void write();
+
+        @Override
+        public void setUp(int threads) {
+            controller = new BookingController();
+            controller.addEvent(benchmarkEvent());
+            running.set(true);
+            writer = new Thread(() -> {
+                while (running.get()) {
+                    write();
+                    LockSupport.parkNanos(writeIntervalNanos);
+                }
+            }, "benchmark-writer");
+            writer.setDaemon(true);
+            writer.start();
+        }
+
+        @Override
+        public void tearDown() throws InterruptedException {
+            running.set(false);
+            writer.join();
+            controller.close();
+        }
+    }
+
+    private static BenchmarkCase receipt() {
+        return new BenchmarkCase("ReceiptPanel.formatReceipt") {
+            private Booking booking;
+
+            @Override
+            public void setUp(int threads) {
+                BookingController controller = new BookingController();
+                booking = controller.createBooking("Benchmark Customer", "customer@example.com", "0123456789",
+                        1, SeatType.VIP, 2);
+            }
+
+            @Override
+            public long operation(int threadIndex) {
+                return ReceiptPanel.formatReceipt(booking).length();
+            }
+        };
+    }
+}
@@ -0,0 +1,109 @@
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Booking lookup index benchmarks
+ * Academic project for BIT 4043 OOP course
+ *
+ * Looks bookings up by email in a controller holding 100k bookings, with
+ * keys in mixed case and padded with spaces so normalization is part of
+ * the measurement. A single-shot case indexes ten million bookings and
+ * reports how much memory both indexes need per booking.
+ */
+public class BookingLookupBenchmarks {
+    private static final int LOOKUP_BOOKINGS = 100_000;
+    private static final int MEMORY_BOOKINGS = 10_000_000;
+    private static final int KEYS = 1024;
+
+    private BookingLookupBenchmarks() {
+    }
+
+    static List<BenchmarkCase> cases() {
+        return Arrays.asList(findByEmail().param("bookings", LOOKUP_BOOKINGS),
+                new MemoryCase().param("bookings", MEMORY_BOOKINGS));
+    }
+
+    private static BenchmarkCase findByEmail() {
+        return new BenchmarkCase("BookingController.findBookingsByEmail") {
+            private BookingController controller;
+            private String[] keys;
+            private int[] cursors;
+
+            @Override
+            public void setUp(int threads) {
+                controller = new BookingController();
+                controller.addEvent(BookingControllerBenchmarks.benchmarkEvent());
+                for (int i = 0; i < LOOKUP_BOOKINGS; i++) {
+                    controller.createBooking("Customer " + i, "customer" + i + "@example.com", "01234" + i,
+                            BookingControllerBenchmarks.BENCHMARK_EVENT_ID, SeatType.STANDARD, 1);
+                }
+                keys = new String[KEYS];
+                for (int i = 0; i < KEYS; i++) {
+                    keys[i] = " Customer" + (i * 97 % LOOKUP_BOOKINGS) + "@Example.COM ";
+                }
+                cursors = new int[threads * 16];
+            }
+
+            @Override
+            public long operation(int threadIndex) {
+                String key = keys[cursors[threadIndex * 16]++ & (KEYS - 1)];
+                return controller.findBookingsByEmail(key).size();
+            }
+
+            @Override
+            public void tearDown() {
+                controller.close();
+            }
+        };
+    }
+
+    private static class MemoryCase extends BenchmarkCase {
+        private Event event;
+        private final Map<String, Double> memory = new LinkedHashMap<>();
+
+        MemoryCase() {
+            super("BookingLookupIndex.build");
+        }
+
+        @Override
+        public boolean isSingleShot() {
+            return true;
+        }
+
+        @Override
+        public boolean isMultiThreaded() {
+            return false;
+        }
+
+        @Override
+        public void setUp(int threads) {
+            event = BookingControllerBenchmarks.benchmarkEvent();
+        }
+
+        @Override
+        public long operation(int threadIndex) {
+            BookingLookupIndex emails = new BookingLookupIndex(BookingLookupIndex.Field.EMAIL);
+            BookingLookupIndex phones = new BookingLookupIndex(BookingLookupIndex.Field.PHONE);
+            for (int id = 1; id <= MEMORY_BOOKINGS; id++) {
+                Booking booking = BookingStoreBenchmarks.uniqueBooking(id, event);
+                emails.add(booking);
+                phones.add(booking);
+            }
+            memory.put("email.bytesPerBooking", (double) emails.getMemoryBytes() / MEMORY_BOOKINGS);
+            memory.put("phone.bytesPerBooking", (double) phones.getMemoryBytes() / MEMORY_BOOKINGS);
+            return emails.size() + phones.size();
+        }
+
+        @Override
+        public Map<String, Double> secondaryMetrics() {
+            return memory;
+        }
+
+        @Override
+        public String secondaryMetricUnit(String metric) {
+            return "bytes";
+        }
+    }
+}
@@ -0,0 +1,113 @@
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Booking store footprint benchmark
+ * Academic project for BIT 4043 OOP course
+ *
+ * Stores one million bookings in a BookingRepository and reports the heap
+ * it retains, next to the same bookings kept as a list of Booking objects.
+ * Every booking has its own email address; names and phone numbers repeat
+ * across a thousand customers, as in PersistenceBenchmarks. A third run
+ * archives all but the newest bookings and reports heap and archive size.
+ */
+public class BookingStoreBenchmarks {
+    private static final int BOOKINGS = 1_000_000;
+    private static final int HOT_BOOKINGS = 65_536;
+
+    private BookingStoreBenchmarks() {
+    }
+
+    static List<BenchmarkCase> cases() {
+        return Collections.singletonList(new StoreCase().param("bookings", BOOKINGS));
+    }
+
+    static Booking uniqueBooking(int id, Event event) {
+        Booking booking = PersistenceBenchmarks.sampleBooking(id, event);
+        booking.setCustomerEmail("customer" + id + "@example.com");
+        return booking;
+    }
+
+    private static class StoreCase extends BenchmarkCase {
+        private Event event;
+        private final Map<String, Double> memory = new LinkedHashMap<>();
+
+        StoreCase() {
+            super("BookingRepository.store");
+        }
+
+        @Override
+        public boolean isSingleShot() {
+            return true;
+        }
+
+        @Override
+        public boolean isMultiThreaded() {
+            return false;
+        }
+
+        @Override
+        public void setUp(int threads) {
+            event = BookingControllerBenchmarks.benchmarkEvent();
+        }
+
+        @Override
+        public long operation(int threadIndex) {
+            BookingRepository bookings = new BookingRepository();
+            for (int id = 1; id <= BOOKINGS; id++) {
+                bookings.restore(uniqueBooking(id, event));
+            }
+            return bookings.size();
+        }
+
+        @Override
+        public void tearDown() {
+            if (memory.isEmpty()) {
+                double perMillion = 1_000_000.0 / BOOKINGS;
+                memory.put("columns.bytesPerMillion", retainedHeap(new BookingRepository()) * perMillion);
+                memory.put("objects.bytesPerMillion", retainedHeap(null) * perMillion);
+                BookingArchive archive = BookingArchive.inMemory();
+                memory.put("archived.heapBytesPerMillion",
+                        retainedHeap(new BookingRepository(archive, HOT_BOOKINGS)) * perMillion);
+                memory.put("archived.offHeapBytesPerMillion", archive.size() * perMillion);
+            }
+            event = null;
+        }
+
+        @Override
+        public Map<String, Double> secondaryMetrics() {
+            return memory;
+        }
+
+        @Override
+        public String secondaryMetricUnit(String metric) {
+            return "bytes";
+        }
+
+        // Heap kept by the bookings in the repository, or in a plain list when it is null
+        private long retainedHeap(BookingRepository repository) {
+            long before = SeatMapBenchmarks.usedHeap();
+            List<Booking> objects = repository != null ? null : new ArrayList<>(BOOKINGS);
+            for (int id = 1; id <= BOOKINGS; id++) {
+                Booking booking = uniqueBooking(id, event);
+                if (repository != null) {
+                    repository.restore(booking);
+                } else {
+                    objects.add(booking);
+                }
+            }
+            if (repository != null) {
+                repository.archiveOldSegments();
+                repository.close();
+            }
+            long after = SeatMapBenchmarks.usedHeap();
+            Reference.reachabilityFence(repository);
+            Reference.reachabilityFence(objects);
+            return after - before;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Event lookup benchmarks: EventIndex versus the linear scan it replaced
+ * Academic project for BIT 4043 OOP course
+ */
+public class EventLookupBenchmarks {
+    private static final int[] CATALOG_SIZES = {10, 10_000, 1_000_000};
+
+    private EventLookupBenchmarks() {
+    }
+
+    static List<BenchmarkCase> cases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        for (int size : CATALOG_SIZES) {
+            cases.add(new LookupCase("EventLookup.index", size, true).param("events", size));
+            cases.add(new LookupCase("EventLookup.scan", size, false).param("events", size));
+        }
+        return cases;
+    }
+
+    private static class LookupCase extends BenchmarkCase {
+        private final int size;
+        private final boolean indexed;
+        private ArrayList<Event> events;
+        private EventIndex index;
+        private int cursor;
+
+        LookupCase(String name, int size, boolean indexed) {
+            super(name);
+            this.size = size;
+            this.indexed = indexed;
+        }
+
+        @Override
+        public boolean isMultiThreaded() {
+            return false;
+        }
+
+        @Override
+        public void setUp(int threads) {
+            events = new ArrayList<>(size);
+            index = new EventIndex(size);
+            BigDecimal price = new BigDecimal("50.00");
+            for (int id = 1; id <= size; id++) {
+                Event event = new Event(id, "Event " + id, "2025-07-15", "Venue", "", price, 100, "");
+                events.add(event);
+                index.put(event);
+            }
+        }
+
+        @Override
+        public void tearDown() {
+            events = null;
+            index = null;
+        }
+
+        @Override
+        public long operation(int threadIndex) {
+            // Walk IDs in a scattered order so the scan cannot always hit early
+            cursor = (cursor + 7919) % size;
+            int eventId = cursor + 1;
+            Event event = indexed ? index.get(eventId) : scan(eventId);
+            return event.getId();
+        }
+
+        // The lookup BookingController.getEventById used before the index
+        private Event scan(int eventId) {
+            for (Event event : events) {
+                if (event.getId() == eventId) {
+                    return event;
+                }
+            }
+            return null;
+        }
+    }
+}
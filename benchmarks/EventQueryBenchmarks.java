@@ -0,0 +1,100 @@
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Event date and venue query benchmarks: EventCalendarIndex versus a scan
+ * Academic project for BIT 4043 OOP course
+ *
+ * 100k events spread over three years and 200 venues. Each query asks
+ * for one weekend, either across all venues or at a single venue. The
+ * scan parses every event's date string, as callers had to before events
+ * carried an epoch day.
+ */
+public class EventQueryBenchmarks {
+    private static final int CATALOG_SIZE = 100_000;
+    private static final int VENUES = 200;
+    private static final int DAYS = 3 * 365;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+
+    private EventQueryBenchmarks() {
+    }
+
+    static List<BenchmarkCase> cases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        cases.add(new QueryCase("EventQuery.weekend.index", true, false).param("events", CATALOG_SIZE));
+        cases.add(new QueryCase("EventQuery.weekend.scan", false, false).param("events", CATALOG_SIZE));
+        cases.add(new QueryCase("EventQuery.venueWeekend.index", true, true).param("events", CATALOG_SIZE));
+        cases.add(new QueryCase("EventQuery.venueWeekend.scan", false, true).param("events", CATALOG_SIZE));
+        return cases;
+    }
+
+    private static class QueryCase extends BenchmarkCase {
+        private final boolean indexed;
+        private final boolean byVenue;
+        private ArrayList<Event> events;
+        private EventCalendarIndex index;
+        private int cursor;
+
+        QueryCase(String name, boolean indexed, boolean byVenue) {
+            super(name);
+            this.indexed = indexed;
+            this.byVenue = byVenue;
+        }
+
+        @Override
+        public boolean isMultiThreaded() {
+            return false;
+        }
+
+        @Override
+        public void setUp(int threads) {
+            events = new ArrayList<>(CATALOG_SIZE);
+            index = new EventCalendarIndex();
+            BigDecimal price = new BigDecimal("50.00");
+            for (int id = 1; id <= CATALOG_SIZE; id++) {
+                String date = FIRST_DAY.plusDays(id * 7919L % DAYS).toString();
+                Event event = new Event(id, "Event " + id, date, venue(id * 31 % VENUES), "", price, 100, "");
+                events.add(event);
+                index.put(event);
+            }
+        }
+
+        @Override
+        public void tearDown() {
+            events = null;
+            index = null;
+        }
+
+        @Override
+        public long operation(int threadIndex) {
+            // Friday to Sunday of a different week each time
+            cursor++;
+            LocalDate friday = FIRST_DAY.plusDays(3 + 7L * (cursor % (DAYS / 7)));
+            LocalDate sunday = friday.plusDays(2);
+            String venue = byVenue ? venue(cursor % VENUES) : null;
+            if (indexed) {
+                return byVenue ? index.atVenueBetween(venue, friday.toEpochDay(), sunday.toEpochDay()).size()
+                               : index.between(friday.toEpochDay(), sunday.toEpochDay()).size();
+            }
+            return scan(venue, friday, sunday);
+        }
+
+        private long scan(String venue, LocalDate from, LocalDate to) {
+            long matches = 0;
+            for (Event event : events) {
+                LocalDate date = LocalDate.parse(event.getDate());
+                if (!date.isBefore(from) && !date.isAfter(to)
+                        && (venue == null || event.getVenue().equalsIgnoreCase(venue))) {
+                    matches++;
+                }
+            }
+            return matches;
+        }
+
+        private static String venue(int index) {
+            return "Venue " + index;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Event search benchmarks: EventSearchIndex versus scanning every event
+ * Academic project for BIT 4043 OOP course
+ *
+ * The catalog mixes a few genres, cities and venue types with a made-up
+ * vocabulary of 5000 description words. Queries are what a search box
+ * sees while someone types: short prefixes, one or two words.
+ */
+public class EventSearchBenchmarks {
+    private static final int CATALOG_SIZE = 100_000;
+    private static final int VOCABULARY = 5000;
+    private static final int TYPEAHEAD_LIMIT = 20;   // Suggestions shown while typing
+    private static final String[] GENRES = {"Rock", "Jazz", "Classical", "Comedy", "Theater", "Magic",
+            "Basketball", "Football", "Art", "Food", "Technology", "Pop"};
+    private static final String[] CITIES = {"City", "Central", "National", "Grand", "Modern", "Riverside"};
+    private static final String[] VENUES = {"Arena", "Hall", "Lounge", "Stadium", "Club", "Theater", "Gallery"};
+    private static final String[] QUERIES = {"r", "ro", "rock", "rock c", "jazz lou", "gra", "grand thea",
+            "word12", "word4321 st", "football nat"};
+
+    private EventSearchBenchmarks() {
+    }
+
+    static List<BenchmarkCase> cases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        cases.add(new SearchCase("EventSearch.index", Integer.MAX_VALUE).param("events", CATALOG_SIZE));
+        cases.add(new SearchCase("EventSearch.typeahead", TYPEAHEAD_LIMIT).param("events", CATALOG_SIZE)
+                .param("limit", TYPEAHEAD_LIMIT));
+        cases.add(new SearchCase("EventSearch.scan", 0).param("events", CATALOG_SIZE));
+        return cases;
+    }
+
+    private static class SearchCase extends BenchmarkCase {
+        private final int limit;   // Result limit for the index, 0 to scan instead
+        private ArrayList<Event> events;
+        private EventSearchIndex index;
+        private int cursor;
+
+        SearchCase(String name, int limit) {
+            super(name);
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean isMultiThreaded() {
+            return false;
+        }
+
+        @Override
+        public void setUp(int threads) {
+            events = new ArrayList<>(CATALOG_SIZE);
+            index = new EventSearchIndex();
+            BigDecimal price = new BigDecimal("50.00");
+            for (int id = 1; id <= CATALOG_SIZE; id++) {
+                String genre = GENRES[id % GENRES.length];
+                String venue = CITIES[id % CITIES.length] + " " + VENUES[(id / 7) % VENUES.length];
+                String description = "word" + (id * 31 % VOCABULARY) + " word" + (id * 17 % VOCABULARY)
+                        + " with word" + (id % VOCABULARY);
+                Event event = new Event(id, genre + " Night " + id, "2025-07-15", venue, description, price, 100, "");
+                events.add(event);
+                index.put(event);
+            }
+        }
+
+        @Override
+        public void tearDown() {
+            events = null;
+            index = null;
+        }
+
+        @Override
+        public long operation(int threadIndex) {
+            String query = QUERIES[cursor++ % QUERIES.length];
+            return limit > 0 ? index.search(query, limit).length : scan(query);
+        }
+
+        // Lower-case substring test on every event, the obvious search without an index
+        private long scan(String query) {
+            String[] words = query.split(" ");
+            long matches = 0;
+            for (Event event : events) {
+                String text = (event.getName() + " " + event.getVenue() + " " + event.getDescription())
+                        .toLowerCase(Locale.ROOT);
+                boolean match = true;
+                for (int i = 0; match && i < words.length; i++) {
+                    match = text.contains(words[i]);
+                }
+                if (match) {
+                    matches++;
+                }
+            }
+            return matches;
+        }
+    }
+}
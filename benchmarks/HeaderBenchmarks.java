@@ -0,0 +1,91 @@
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.ImageIcon;
+
+/**
+ * Header background paint benchmarks
+ * Academic project for BIT 4043 OOP course
+ *
+ * Paints a 1000x160 header into an off-screen image, the size of the home
+ * screen header, the way the header panels used to (scale the photo with
+ * bilinear filtering and fill a new overlay color on every paint) and
+ * with HeaderBackgroundRenderer. The resize case changes the height on
+ * every paint, so the renderer has to scale the photo each time. Run from
+ * the project directory so images/ is found.
+ */
+public class HeaderBenchmarks {
+    private static final int WIDTH = 1000;
+    private static final int HEIGHT = 160;
+
+    private HeaderBenchmarks() {
+    }
+
+    static List<BenchmarkCase> cases() {
+        return Arrays.asList(new PaintCase("HeaderBackground.paint.perPaintScaling"),
+                new PaintCase("HeaderBackground.paint.renderer"),
+                new PaintCase("HeaderBackground.resize.renderer"));
+    }
+
+    private static class PaintCase extends BenchmarkCase {
+        private BufferedImage target;
+        private Image photo;
+        private BufferedImage rendererPhoto;   // Keeps the renderer's softly held photo decoded
+        private HeaderBackgroundRenderer renderer;
+        private int paints;
+
+        PaintCase(String name) {
+            super(name);
+        }
+
+        @Override
+        public boolean isMultiThreaded() {
+            return false;
+        }
+
+        @Override
+        public void setUp(int threads) {
+            if (!new File(HeaderBackgroundRenderer.IMAGE_PATH).isFile()) {
+                throw new IllegalStateException(HeaderBackgroundRenderer.IMAGE_PATH
+                        + " not found - run from the project directory");
+            }
+            target = new BufferedImage(WIDTH, HEIGHT + 2, BufferedImage.TYPE_INT_RGB);
+            photo = Toolkit.getDefaultToolkit().createImage(HeaderBackgroundRenderer.IMAGE_PATH);
+            new ImageIcon(photo);   // Wait until the photo is decoded
+            rendererPhoto = HeaderBackgroundRenderer.loadBackgroundImage();
+            renderer = new HeaderBackgroundRenderer(Main.PRIMARY_DARK);
+        }
+
+        @Override
+        public void tearDown() {
+            photo.flush();
+            target = null;
+            rendererPhoto = null;
+            renderer = null;
+        }
+
+        @Override
+        public long operation(int threadIndex) {
+            Graphics2D g2d = target.createGraphics();
+            int height = getName().startsWith("HeaderBackground.resize") ? HEIGHT + (++paints & 1) : HEIGHT;
+            if (getName().endsWith("perPaintScaling")) {
+                // What every header panel's paintComponent did before
+                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g2d.drawImage(photo, 0, 0, WIDTH, height, null);
+                g2d.setColor(new Color(Main.PRIMARY_DARK.getRed(), Main.PRIMARY_DARK.getGreen(),
+                                       Main.PRIMARY_DARK.getBlue(), 180));
+                g2d.fillRect(0, 0, WIDTH, height);
+            } else {
+                renderer.paint(g2d, WIDTH, height, null);
+            }
+            g2d.dispose();
+            return target.getRGB(0, 0);
+        }
+    }
+}
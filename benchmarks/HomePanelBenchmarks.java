@@ -0,0 +1,174 @@
+import javax.swing.SwingUtilities;
+import java.awt.Component;
+import java.awt.Container;
+import java.lang.ref.Reference;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Home screen event list benchmarks
+ * Academic project for BIT 4043 OOP course
+ *
+ * Builds a HomePanel over a catalog and refreshes its event list, then
+ * lays the panel out the way Swing would before painting it, which is
+ * what every return to the home screen used to cost. Reports the number
+ * of Swing components under the panel and the heap the panel keeps.
+ *
+ * The booking cases book a seat on a different event each time and wait
+ * until the panel has redrawn that event's card, which is what keeps the
+ * home screen current now.
+ * Events reuse the bundled sample photos, so their thumbnails are cached
+ * after the first refresh. Run from the project directory so images/ is
+ * found.
+ */
+public class HomePanelBenchmarks {
+    private HomePanelBenchmarks() {
+    }
+
+    static List<BenchmarkCase> cases() {
+        return Arrays.asList(new RefreshCase(12).param("events", 12),
+                new RefreshCase(10_000).param("events", 10_000),
+                new BookingUpdateCase(12).param("events", 12),
+                new BookingUpdateCase(10_000).param("events", 10_000));
+    }
+
+    private static class BookingUpdateCase extends BenchmarkCase {
+        private final int catalogSize;
+        private BookingController controller;
+        private HomePanel panel;
+        private int cursor;
+
+        BookingUpdateCase(int catalogSize) {
+            super("HomePanel.bookingUpdate");
+            this.catalogSize = catalogSize;
+        }
+
+        @Override
+        public boolean isMultiThreaded() {
+            return false;
+        }
+
+        @Override
+        public void setUp(int threads) throws Exception {
+            controller = catalog(catalogSize);
+            SwingUtilities.invokeAndWait(() -> {
+                panel = new HomePanel(null, controller);
+                panel.setSize(1000, 900);
+                layOut(panel);
+            });
+        }
+
+        @Override
+        public long operation(int threadIndex) throws Exception {
+            int eventId = 1 + cursor++ % catalogSize;
+            if (controller.createBooking("Bench Customer", "bench@example.com", "555-0100",
+                                         eventId, SeatType.STANDARD, 1) == null) {
+                // Sold out - put the seats back on sale
+                controller.getEventById(eventId).setAvailableSeats(500);
+            }
+            // Runs after the panel's update, which the booking queued on the EDT
+            SwingUtilities.invokeAndWait(() -> layOut(panel));
+            return 1;
+        }
+
+        @Override
+        public void tearDown() {
+            controller.close();
+            controller = null;
+            panel = null;
+        }
+    }
+
+    private static class RefreshCase extends BenchmarkCase {
+        private final int catalogSize;
+        private BookingController controller;
+        private HomePanel panel;
+        private final Map<String, Double> metrics = new LinkedHashMap<>();
+
+        RefreshCase(int catalogSize) {
+            super("HomePanel.refreshEventList");
+            this.catalogSize = catalogSize;
+        }
+
+        @Override
+        public boolean isMultiThreaded() {
+            return false;
+        }
+
+        @Override
+        public void setUp(int threads) throws Exception {
+            controller = catalog(catalogSize);
+            // A first panel loads fonts, icons and the header image, which are not per panel
+            SwingUtilities.invokeAndWait(() -> new HomePanel(null, controller));
+            long before = SeatMapBenchmarks.usedHeap();
+            SwingUtilities.invokeAndWait(() -> {
+                panel = new HomePanel(null, controller);
+                panel.setSize(1000, 900);
+                layOut(panel);
+            });
+            long after = SeatMapBenchmarks.usedHeap();
+            Reference.reachabilityFence(panel);
+            metrics.put("panel.heapBytes", (double) (after - before));
+            metrics.put("components", (double) countComponents(panel));
+        }
+
+        @Override
+        public long operation(int threadIndex) throws Exception {
+            SwingUtilities.invokeAndWait(() -> {
+                panel.refreshEventList();
+                layOut(panel);
+            });
+            return catalogSize;
+        }
+
+        @Override
+        public void tearDown() {
+            controller.close();
+            controller = null;
+            panel = null;
+        }
+
+        @Override
+        public Map<String, Double> secondaryMetrics() {
+            return metrics;
+        }
+
+        @Override
+        public String secondaryMetricUnit(String metric) {
+            return metric.equals("components") ? "count" : "bytes";
+        }
+    }
+
+    // Sample events repeated up to the catalog size
+    static BookingController catalog(int size) {
+        BookingController controller = new BookingController();
+        List<Event> samples = controller.getAllEvents();
+        for (int id = samples.size() + 1; id <= size; id++) {
+            Event sample = samples.get(id % samples.size());
+            controller.addEvent(new Event(id, sample.getName() + " " + id, sample.getDate(), sample.getVenue(),
+                    sample.getDescription(), new BigDecimal("75.00"), 500, sample.getImagePath()));
+        }
+        return controller;
+    }
+
+    // Lay out every container, as validate() does for a panel on screen
+    static void layOut(Container container) {
+        container.doLayout();
+        for (Component child : container.getComponents()) {
+            if (child instanceof Container) {
+                layOut((Container) child);
+            }
+        }
+    }
+
+    static int countComponents(Container container) {
+        int count = 1;
+        for (Component child : container.getComponents()) {
+            count += child instanceof Container ? countComponents((Container) child) : 1;
+        }
+        return count;
+    }
+}
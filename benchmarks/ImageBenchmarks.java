@@ -0,0 +1,147 @@
+import javax.swing.ImageIcon;
+import java.awt.Image;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Event thumbnail benchmarks
+ * Academic project for BIT 4043 OOP course
+ *
+ * Turns the largest bundled event photo into a 180x120 card thumbnail the
+ * way HomePanel used to (ImageIcon and Image.SCALE_SMOOTH on the calling
+ * thread), with ImageService's decoder and scaler, and from ImageService's
+ * cache, which is what returning to the home screen now costs.
+ *
+ * The startup cases load the thumbnails of every sample event the way a
+ * fresh HomePanel does, once with an empty thumbnail directory (first run)
+ * and once with a filled one (every later run). Run from the project
+ * directory so images/ is found.
+ */
+public class ImageBenchmarks {
+    private static final String IMAGE = "images/jazz_festival.jpg";
+    private static final int WIDTH = 180;
+    private static final int HEIGHT = 120;
+
+    private ImageBenchmarks() {
+    }
+
+    static List<BenchmarkCase> cases() {
+        return Arrays.asList(new ThumbnailCase("Thumbnail.imageIcon"), new ThumbnailCase("Thumbnail.imageService"),
+                new ThumbnailCase("Thumbnail.cached"),
+                new StartupCase(false).param("diskCache", "empty"), new StartupCase(true).param("diskCache", "warm"));
+    }
+
+    private static class StartupCase extends BenchmarkCase {
+        private final boolean warm;
+        private List<Event> events;
+        private Path directory;
+
+        StartupCase(boolean warm) {
+            super("Thumbnail.startup");
+            this.warm = warm;
+        }
+
+        @Override
+        public boolean isSingleShot() {
+            return true;
+        }
+
+        @Override
+        public boolean isMultiThreaded() {
+            return false;
+        }
+
+        @Override
+        public void setUp(int threads) throws Exception {
+            BookingController controller = new BookingController();
+            events = controller.getAllEvents();
+            controller.close();
+            directory = Files.createTempDirectory("thumbnail-bench");
+            if (warm) {
+                loadAll();
+            }
+        }
+
+        @Override
+        public void setUpIteration() throws IOException {
+            if (!warm) {
+                PersistenceBenchmarks.deleteRecursively(directory);
+            }
+        }
+
+        @Override
+        public long operation(int threadIndex) throws InterruptedException {
+            return loadAll();
+        }
+
+        @Override
+        public void tearDown() throws IOException {
+            PersistenceBenchmarks.deleteRecursively(directory);
+        }
+
+        // Ask a fresh service for every card's thumbnail and wait until all arrived
+        private long loadAll() throws InterruptedException {
+            ImageService images = new ImageService(32L * 1024 * 1024, new ThumbnailDiskCache(directory));
+            CountDownLatch done = new CountDownLatch(events.size());
+            for (Event event : events) {
+                if (images.getThumbnail(event.getImagePath(), WIDTH, HEIGHT, thumbnail -> done.countDown()) != null) {
+                    done.countDown();
+                }
+            }
+            done.await();
+            images.close();
+            return events.size();
+        }
+    }
+
+    private static class ThumbnailCase extends BenchmarkCase {
+        private ImageService images;
+
+        @Override
+        public void tearDown() {
+            images.close();
+        }
+
+        ThumbnailCase(String name) {
+            super(name);
+        }
+
+        @Override
+        public boolean isMultiThreaded() {
+            return false;
+        }
+
+        @Override
+        public void setUp(int threads) {
+            if (!new File(IMAGE).isFile()) {
+                throw new IllegalStateException(IMAGE + " not found - run from the project directory");
+            }
+            images = new ImageService(1024 * 1024);
+            if (getName().equals("Thumbnail.cached")) {
+                while (images.getThumbnail(IMAGE, WIDTH, HEIGHT, thumbnail -> { }) == null) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+
+        @Override
+        public long operation(int threadIndex) {
+            switch (getName()) {
+                case "Thumbnail.imageIcon":
+                    // What HomePanel.createImagePanel did on the EDT for every card
+                    Image original = new ImageIcon(IMAGE).getImage();
+                    ImageIcon scaled = new ImageIcon(original.getScaledInstance(WIDTH, HEIGHT, Image.SCALE_SMOOTH));
+                    return scaled.getIconWidth();
+                case "Thumbnail.imageService":
+                    return ImageService.loadThumbnail(IMAGE, WIDTH, HEIGHT).getWidth();
+                default:
+                    return images.getThumbnail(IMAGE, WIDTH, HEIGHT, thumbnail -> { }).getWidth();
+            }
+        }
+    }
+}
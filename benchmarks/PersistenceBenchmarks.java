@@ -0,0 +1,221 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Booking journal and snapshot benchmarks
+ * Academic project for BIT 4043 OOP course
+ *
+ * Recovery sizes default to the numbers we care about in production and
+ * need a large heap (-Xmx8g for 10M bookings). Smaller runs can set
+ * -Dbench.journalEntries and -Dbench.snapshotBookings.
+ */
+public class PersistenceBenchmarks {
+    private static final int JOURNAL_ENTRIES = Integer.getInteger("bench.journalEntries", 10_000_000);
+    private static final int SNAPSHOT_BOOKINGS = Integer.getInteger("bench.snapshotBookings", 10_000_000);
+    private static final long SAMPLE_BOOKING_TIME = TimestampFormat.parse("2025-07-01 12:00:00");
+
+    private PersistenceBenchmarks() {
+    }
+
+    static List<BenchmarkCase> cases() {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        for (BookingJournal.DurabilityMode mode : BookingJournal.DurabilityMode.values()) {
+            cases.add(new JournalAppendCase(mode).param("mode", mode));
+        }
+        cases.add(new JournalRecoveryCase(JOURNAL_ENTRIES).param("entries", JOURNAL_ENTRIES));
+        cases.add(new SnapshotLoadCase(SNAPSHOT_BOOKINGS).param("bookings", SNAPSHOT_BOOKINGS));
+        return cases;
+    }
+
+    static Booking sampleBooking(int id, Event event) {
+        return new Booking(id, "Customer " + (id % 1000), "customer" + (id % 1000) + "@example.com",
+                "01234" + (id % 100000), event, SeatType.fromOrdinal(id % SeatType.count()), 1 + (id & 3),
+                SAMPLE_BOOKING_TIME);
+    }
+
+    static void deleteRecursively(Path directory) throws IOException {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Append throughput of one booking per operation
+     */
+    private static class JournalAppendCase extends BenchmarkCase {
+        private final BookingJournal.DurabilityMode mode;
+        private Path directory;
+        private BookingJournal journal;
+        private Booking booking;
+
+        JournalAppendCase(BookingJournal.DurabilityMode mode) {
+            super("BookingJournal.append");
+            this.mode = mode;
+        }
+
+        @Override
+        public void setUp(int threads) throws IOException {
+            directory = Files.createTempDirectory("journal-bench");
+            booking = sampleBooking(1, BookingControllerBenchmarks.benchmarkEvent());
+        }
+
+        @Override
+        public void setUpIteration() throws IOException {
+            if (journal != null) {
+                journal.close();
+            }
+            Files.deleteIfExists(directory.resolve("bookings.journal"));
+            journal = BookingJournal.open(directory.resolve("bookings.journal"), mode);
+        }
+
+        @Override
+        public long operation(int threadIndex) throws IOException {
+            journal.append(booking);
+            return 1;
+        }
+
+        @Override
+        public void tearDown() throws IOException {
+            journal.close();
+            journal = null;
+            deleteRecursively(directory);
+        }
+    }
+
+    /**
+     * Time to replay a journal into a booking repository, re-reserving seats
+     * the way BookingController does on startup
+     */
+    private static class JournalRecoveryCase extends BenchmarkCase {
+        private final int entries;
+        private Path directory;
+        private Event event;
+        private long journalBytes;
+
+        JournalRecoveryCase(int entries) {
+            super("BookingJournal.recovery");
+            this.entries = entries;
+        }
+
+        @Override
+        public boolean isSingleShot() {
+            return true;
+        }
+
+        @Override
+        public void setUp(int threads) throws IOException {
+            directory = Files.createTempDirectory("recovery-bench");
+            Event writeEvent = BookingControllerBenchmarks.benchmarkEvent();
+            try (BookingJournal journal = BookingJournal.open(directory.resolve("bookings.journal"),
+                    BookingJournal.DurabilityMode.ASYNC)) {
+                for (int id = 1; id <= entries; id++) {
+                    journal.append(sampleBooking(id, writeEvent));
+                }
+                journal.sync();
+                journalBytes = journal.size();
+            }
+        }
+
+        @Override
+        public void setUpIteration() {
+            event = BookingControllerBenchmarks.benchmarkEvent();
+        }
+
+        @Override
+        public long operation(int threadIndex) throws IOException {
+            BookingRepository bookings = new BookingRepository();
+            try (BookingJournal journal = BookingJournal.open(directory.resolve("bookings.journal"),
+                    BookingJournal.DurabilityMode.GROUP_COMMIT)) {
+                journal.replay(id -> event, booking -> {
+                    booking.getEvent().tryReserve(booking.getSeatType(), booking.getQuantity());
+                    bookings.restore(booking);
+                });
+            }
+            return bookings.size();
+        }
+
+        @Override
+        public void tearDown() throws IOException {
+            deleteRecursively(directory);
+        }
+
+        @Override
+        public Map<String, Double> secondaryMetrics() {
+            return Collections.singletonMap("journal.size", journalBytes / (1024.0 * 1024.0));
+        }
+
+        @Override
+        public String secondaryMetricUnit(String metric) {
+            return "MB";
+        }
+    }
+
+    /**
+     * Cold start from a snapshot alone
+     */
+    private static class SnapshotLoadCase extends BenchmarkCase {
+        private final int bookingCount;
+        private Path directory;
+        private long snapshotBytes;
+
+        SnapshotLoadCase(int bookingCount) {
+            super("BookingSnapshot.load");
+            this.bookingCount = bookingCount;
+        }
+
+        @Override
+        public boolean isSingleShot() {
+            return true;
+        }
+
+        @Override
+        public void setUp(int threads) throws IOException {
+            directory = Files.createTempDirectory("snapshot-bench");
+            Event event = BookingControllerBenchmarks.benchmarkEvent();
+            List<Booking> bookings = new ArrayList<>(bookingCount);
+            for (int id = 1; id <= bookingCount; id++) {
+                bookings.add(sampleBooking(id, event));
+            }
+            Path file = directory.resolve("bookings.snapshot");
+            BookingSnapshot.write(file, Collections.singletonList(event), bookings, bookingCount);
+            snapshotBytes = Files.size(file);
+        }
+
+        @Override
+        public long operation(int threadIndex) throws IOException {
+            Map<Integer, Event> events = new HashMap<>();
+            BookingRepository bookings = new BookingRepository();
+            BookingSnapshot.load(directory.resolve("bookings.snapshot"), event -> events.put(event.getId(), event),
+                    events::get, bookings::restore);
+            return bookings.size();
+        }
+
+        @Override
+        public void tearDown() throws IOException {
+            deleteRecursively(directory);
+        }
+
+        @Override
+        public Map<String, Double> secondaryMetrics() {
+            return Collections.singletonMap("snapshot.size", snapshotBytes / (1024.0 * 1024.0));
+        }
+
+        @Override
+        public String secondaryMetricUnit(String metric) {
+            return "MB";
+        }
+    }
+}
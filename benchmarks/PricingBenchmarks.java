@@ -0,0 +1,67 @@
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Price calculation benchmarks: fixed-point versus BigDecimal
+ * Academic project for BIT 4043 OOP course
+ *
+ * The ·gc.alloc.rate.norm metric reported by the runner shows the bytes
+ * allocated per call; the fixed-point paths should report zero.
+ */
+public class PricingBenchmarks {
+    private static final BigDecimal BASE_PRICE = new BigDecimal("85.00");
+
+    private PricingBenchmarks() {
+    }
+
+    static List<BenchmarkCase> cases() {
+        return Arrays.asList(
+            new PricingCase("Pricing.bigDecimal") {
+                @Override
+                long price(SeatType seatType, int quantity) {
+                    return Booking.calculateTotalPrice(BASE_PRICE, seatType, quantity).unscaledValue().longValue();
+                }
+            },
+            new PricingCase("Pricing.fixedPoint") {
+                @Override
+                long price(SeatType seatType, int quantity) {
+                    return Booking.calculateTotalMills(8500, seatType, quantity);
+                }
+            },
+            new PricingCase("Pricing.eventPriceTable") {
+                @Override
+                long price(SeatType seatType, int quantity) {
+                    return event.getSeatPriceMills(seatType) * quantity;
+                }
+            }
+        );
+    }
+
+    private abstract static class PricingCase extends BenchmarkCase {
+        Event event;
+        private int step;
+
+        PricingCase(String name) {
+            super(name);
+        }
+
+        @Override
+        public boolean isMultiThreaded() {
+            return false;
+        }
+
+        @Override
+        public void setUp(int threads) {
+            event = new Event(1, "Pop Music Concert", "2025-08-10", "Stadium Arena", "", BASE_PRICE, 800, "");
+        }
+
+        @Override
+        public long operation(int threadIndex) {
+            int current = step++;
+            return price(SeatType.fromOrdinal(current % SeatType.count()), 1 + (current & 7));
+        }
+
+        abstract long price(SeatType seatType, int quantity);
+    }
+}
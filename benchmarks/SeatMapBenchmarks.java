@@ -0,0 +1,133 @@
+import java.lang.ref.Reference;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Seat map benchmarks on a 100,000-seat venue
+ * Academic project for BIT 4043 OOP course
+ *
+ * Half the seats are taken at random before measuring, so searches have to
+ * step over a fragmented map. Each operation claims the best block of 1-6
+ * seats and releases it again, keeping the map in the same state.
+ *
+ * Memory is reported twice: the map's own estimate, and the heap measured
+ * for a few maps next to an object-per-seat model of the same venue.
+ */
+public class SeatMapBenchmarks {
+    private static final int VENUE_SEATS = 100_000;
+    private static final int SEATS_PER_ROW = 100;
+    private static final int MEASURED_COPIES = 20;
+
+    private SeatMapBenchmarks() {
+    }
+
+    static List<BenchmarkCase> cases() {
+        return Collections.singletonList(new ClaimCase().param("seats", VENUE_SEATS));
+    }
+
+    static SeatMap venueMap() {
+        Event event = new Event(1, "Stadium Final", "2025-09-25", "National Stadium", "",
+                new BigDecimal("70.00"), VENUE_SEATS, "");
+        return SeatMap.forEvent(event, SEATS_PER_ROW);
+    }
+
+    private static class ClaimCase extends BenchmarkCase {
+        private SeatMap seatMap;
+        private int[] cursors;   // Per thread, 16 ints apart
+        private final Map<String, Double> memory = new LinkedHashMap<>();
+
+        ClaimCase() {
+            super("SeatMap.claimBestSeats");
+        }
+
+        @Override
+        public void setUp(int threads) {
+            seatMap = venueMap();
+            SplittableRandom random = new SplittableRandom(42);
+            for (int i = 0; i < VENUE_SEATS / 2; i++) {
+                seatMap.claim(random.nextInt(VENUE_SEATS), 1);
+            }
+            cursors = new int[threads * 16];
+        }
+
+        @Override
+        public long operation(int threadIndex) {
+            int quantity = 1 + (cursors[threadIndex * 16]++ % 6);
+            int seat = seatMap.claimBestSeats(SeatType.STANDARD, quantity);
+            if (seat >= 0) {
+                seatMap.release(seat, quantity);
+            }
+            return seat;
+        }
+
+        @Override
+        public void tearDown() {
+            if (memory.isEmpty()) {
+                memory.put("seatMap.estimate", (double) seatMap.getMemoryBytes());
+                memory.put("seatMap.heap", measureHeap(SeatMapBenchmarks::venueMap));
+                memory.put("seatObjects.heap", measureHeap(SeatObject::venue));
+            }
+            seatMap = null;
+        }
+
+        @Override
+        public Map<String, Double> secondaryMetrics() {
+            return memory;
+        }
+
+        @Override
+        public String secondaryMetricUnit(String metric) {
+            return "bytes";
+        }
+    }
+
+    /**
+     * Object-per-seat model the bitset map is compared with
+     */
+    private static class SeatObject {
+        final SeatType seatType;
+        final int row;
+        final int number;
+        volatile boolean taken;
+
+        SeatObject(SeatType seatType, int row, int number) {
+            this.seatType = seatType;
+            this.row = row;
+            this.number = number;
+        }
+
+        static List<SeatObject> venue() {
+            List<SeatObject> seats = new ArrayList<>(VENUE_SEATS);
+            for (int i = 0; i < VENUE_SEATS; i++) {
+                seats.add(new SeatObject(SeatType.STANDARD, i / SEATS_PER_ROW, i % SEATS_PER_ROW));
+            }
+            return seats;
+        }
+    }
+
+    // Average heap retained by one result of the factory
+    private static double measureHeap(Supplier<?> factory) {
+        Object[] keep = new Object[MEASURED_COPIES];
+        long before = usedHeap();
+        for (int i = 0; i < keep.length; i++) {
+            keep[i] = factory.get();
+        }
+        long after = usedHeap();
+        Reference.reachabilityFence(keep);
+        return (after - before) / (double) keep.length;
+    }
+
+    static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,75 @@
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Seat reservation stress benchmark
+ * Academic project for BIT 4043 OOP course
+ *
+ * Many threads hammer Event.tryReserve on one event until it sells out and
+ * beyond. After every iteration the seats each thread reserved are added
+ * up and compared with what the event lost; any difference is an oversell
+ * (or a lost update) and fails the run.
+ */
+public class SeatReservationBenchmarks {
+    private static final int VENUE_SEATS = 1_000_000;
+
+    private SeatReservationBenchmarks() {
+    }
+
+    static List<BenchmarkCase> cases() {
+        return Collections.singletonList(new BenchmarkCase("SeatReservation.tryReserve") {
+            private Event event;
+            private long[] reserved;   // Seats reserved per thread, 8 longs apart
+            private int[] cursors;
+            private long attempts;
+
+            @Override
+            public void setUp(int threads) {
+                reserved = new long[threads * 8];
+                cursors = new int[threads * 16];
+            }
+
+            @Override
+            public void setUpIteration() {
+                verify();
+                event = new Event(1, "Stress Test", "2025-07-15", "Stress Arena", "",
+                        new BigDecimal("10.00"), VENUE_SEATS, "");
+                Arrays.fill(reserved, 0);
+            }
+
+            @Override
+            public long operation(int threadIndex) {
+                int quantity = 1 + (cursors[threadIndex * 16]++ & 3);
+                if (event.tryReserve(SeatType.STANDARD, quantity)) {
+                    reserved[threadIndex * 8] += quantity;
+                    return quantity;
+                }
+                return 0;
+            }
+
+            @Override
+            public void tearDown() {
+                verify();
+                event = null;
+            }
+
+            private void verify() {
+                if (event == null) {
+                    return;
+                }
+                long total = 0;
+                for (int i = 0; i < reserved.length; i += 8) {
+                    total += reserved[i];
+                }
+                int capacity = event.getSeatCapacity(SeatType.STANDARD);
+                int left = event.getAvailableSeats(SeatType.STANDARD);
+                if (left < 0 || total != capacity - left) {
+                    throw new IllegalStateException("Oversold: reserved " + total + " of " + capacity
+                            + " seats but " + left + " are left");
+                }
+            }
+        });
+    }
+}